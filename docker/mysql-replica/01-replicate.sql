@@ -0,0 +1,9 @@
+-- Runs once, when the replica's data directory is first initialized. GTID auto-positioning lets it
+-- start from whatever the primary has already committed.
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'root',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
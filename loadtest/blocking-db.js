@@ -0,0 +1,54 @@
+// k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=<email> -e PASSWORD=<password> loadtest/blocking-db.js
+import http from 'k6/http';
+import encoding from 'k6/encoding';
+import { check } from 'k6';
+
+const baseUrl = __ENV.BASE_URL || 'http://localhost:8080';
+const params = {
+    headers: {
+        Authorization: `Basic ${encoding.b64encode(`${__ENV.USERNAME}:${__ENV.PASSWORD}`)}`,
+    },
+};
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-arrival-rate',
+            startRate: 50,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+            stages: [
+                { target: 200, duration: '30s' },
+                { target: 800, duration: '1m' },
+                { target: 800, duration: '2m' },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const response = http.get(`${baseUrl}/vehicles/search?statuses=AVAILABLE&size=200`, params);
+    return { vehicleIds: response.json('items').map((item) => item.id) };
+}
+
+// Search runs against the database when the app is started with the inventory index disabled; the
+// reservation round-trip is two conditional UPDATEs, so every iteration blocks on MySQL.
+export default function (data) {
+    if (Math.random() < 0.7 || data.vehicleIds.length === 0) {
+        const search = http.get(`${baseUrl}/vehicles/search?sort=PRICE&size=20`,
+            Object.assign({ tags: { endpoint: 'search' } }, params));
+        check(search, { 'search ok': (r) => r.status === 200 });
+        return;
+    }
+
+    const vehicleId = data.vehicleIds[Math.floor(Math.random() * data.vehicleIds.length)];
+    const reserve = http.post(`${baseUrl}/vehicles/${vehicleId}/reservations`, null,
+        Object.assign({ tags: { endpoint: 'reserve' } }, params));
+    check(reserve, { 'reserve answered': (r) => r.status === 201 || r.status === 409 });
+    if (reserve.status === 201) {
+        http.del(`${baseUrl}/vehicles/${vehicleId}/reservations/${reserve.json('reservationToken')}`, null,
+            Object.assign({ tags: { endpoint: 'release' } }, params));
+    }
+}
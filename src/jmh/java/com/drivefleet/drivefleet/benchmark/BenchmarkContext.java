@@ -0,0 +1,36 @@
+package com.drivefleet.drivefleet.benchmark;
+
+import com.drivefleet.drivefleet.DrivefleetApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Boots the application on the test profile against a private in-memory H2 database, with the
+// background work that would compete with the measured code switched off.
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... overrides) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.properties.hibernate.generate_statistics=false",
+                "drivefleet.expiry.enabled=false",
+                "drivefleet.vehicles.inventory.index-enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.org.hibernate.SQL=WARN"
+        ));
+        properties.addAll(List.of(overrides));
+
+        return new SpringApplicationBuilder(DrivefleetApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+}
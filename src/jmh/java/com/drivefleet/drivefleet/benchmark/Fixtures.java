@@ -0,0 +1,101 @@
+package com.drivefleet.drivefleet.benchmark;
+
+import com.drivefleet.drivefleet.domain.entities.Customer;
+import com.drivefleet.drivefleet.domain.entities.Payment;
+import com.drivefleet.drivefleet.domain.entities.SalesOrder;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
+import com.drivefleet.drivefleet.domain.enums.PaymentStatus;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static User user(String email, UserRole role) {
+        return User.builder()
+                .name("Benchmark User")
+                .email(email)
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3ZQnSMMpbhzXxRdmCGD3ZBC")
+                .role(role)
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    public static Vehicle vehicle(String plate) {
+        return Vehicle.builder()
+                .brand("Toyota")
+                .model("Corolla")
+                .yearManufacture(2022)
+                .yearModel(2023)
+                .plate(plate)
+                .color("White")
+                .mileage(new BigDecimal("15000.00"))
+                .price(new BigDecimal("120000.00"))
+                .status(VehicleStatus.AVAILABLE)
+                .build();
+    }
+
+    // A detached seller with its user and the given number of finalized sales, each with customer,
+    // vehicle and payment populated the way the listing queries fetch them.
+    public static Seller sellerGraph(int sales) {
+        Seller seller = Seller.builder()
+                .id(UUID.randomUUID())
+                .registrationNumber(10_000_000L)
+                .user(withId(user("seller@bench.com", UserRole.SELLER)))
+                .sales(new ArrayList<>(sales))
+                .build();
+
+        List<SalesOrder> orders = seller.getSales();
+        for (int i = 0; i < sales; i++) {
+            Customer customer = Customer.builder()
+                    .id(UUID.randomUUID())
+                    .cpf(10_000_000_000L + i)
+                    .phone(11_900_000_000L + i)
+                    .address("Rua " + i)
+                    .user(withId(user("customer" + i + "@bench.com", UserRole.CUSTOMER)))
+                    .build();
+            Vehicle vehicle = vehicle("BEN" + i);
+            vehicle.setId(UUID.randomUUID());
+            vehicle.setStatus(VehicleStatus.SOLD);
+
+            SalesOrder order = SalesOrder.builder()
+                    .id(UUID.randomUUID())
+                    .creationDate(LocalDate.now().minusDays(i))
+                    .conclusionDate(LocalDate.now().minusDays(i))
+                    .totalValue(vehicle.getPrice())
+                    .status(OrderStatus.FINALIZED)
+                    .customer(customer)
+                    .seller(seller)
+                    .vehicle(vehicle)
+                    .build();
+            order.setPayment(Payment.builder()
+                    .id(UUID.randomUUID())
+                    .paymentDate(order.getConclusionDate())
+                    .price(order.getTotalValue())
+                    .method(PaymentMethod.PIX)
+                    .status(PaymentStatus.APPROVED)
+                    .salesOrder(order)
+                    .build());
+            orders.add(order);
+        }
+        return seller;
+    }
+
+    private static User withId(User user) {
+        user.setId(UUID.randomUUID());
+        return user;
+    }
+}
@@ -0,0 +1,146 @@
+package com.drivefleet.drivefleet.repository;
+
+import com.drivefleet.drivefleet.benchmark.BenchmarkContext;
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Batched vehicle inserts crossing how keys are generated (random v4 or time-ordered v7) with how they
+// are stored (BINARY(16) or CHAR(36)). Ordering decides where each row lands in the primary key, storage
+// only how wide the key is, so the four runs separate the two effects. Rows go in through JDBC with the
+// benchmark's own keys, since the entity always generates v7. The table keeps growing across iterations,
+// and its size is printed when each trial ends. By default this runs on in-memory H2, which
+// reports one combined table and index size and has no clustered index. Pass
+// -Dbench.mysql.url=jdbc:mysql://host:3306/schema (plus bench.mysql.username and bench.mysql.password)
+// to measure InnoDB, whose clustered primary key is where random keys cost page splits; the trial then
+// reports data and index bytes from information_schema and the index_page_splits counter.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidKeyStorageBenchmark {
+
+    private static final int BATCH = 500;
+
+    private static final String INSERT = """
+            INSERT INTO tb_vehicle (id, brand, model, year_manufacture, year_model, plate, color, mileage, price,
+                                    status, version)
+            VALUES (?, 'Toyota', 'Corolla', 2022, 2023, ?, 'White', ?, ?, 'AVAILABLE', 0)
+            """;
+
+    private static final BigDecimal MILEAGE = new BigDecimal("15000.00");
+    private static final BigDecimal PRICE = new BigDecimal("120000.00");
+
+    @Param({"V4", "V7"})
+    public String uuidVersion;
+
+    @Param({"BINARY", "CHAR"})
+    public String uuidStorage;
+
+    private static final String MYSQL_URL = System.getProperty("bench.mysql.url");
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private long plates;
+    private long pageSplitsBefore;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> overrides = new ArrayList<>(List.of("drivefleet.persistence.uuid-storage=" + uuidStorage));
+        if (MYSQL_URL != null) {
+            overrides.addAll(List.of(
+                    "spring.datasource.url=" + MYSQL_URL,
+                    "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+                    "spring.datasource.username=" + System.getProperty("bench.mysql.username", "root"),
+                    "spring.datasource.password=" + System.getProperty("bench.mysql.password", ""),
+                    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect"
+            ));
+        }
+        context = BenchmarkContext.start(overrides.toArray(String[]::new));
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        pageSplitsBefore = MYSQL_URL == null ? 0 : pageSplits();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (MYSQL_URL == null) {
+            Long bytes = jdbcTemplate.queryForObject("SELECT DISK_SPACE_USED('TB_VEHICLE')", Long.class);
+            System.out.printf("%n[%s/%s] H2 tb_vehicle, %d rows: %d KiB of table and indexes%n",
+                    uuidVersion, uuidStorage, plates, bytes / 1024);
+        } else {
+            jdbcTemplate.execute("ANALYZE TABLE tb_vehicle");
+            Map<String, Object> size = jdbcTemplate.queryForMap("""
+                    SELECT DATA_LENGTH AS data_bytes, INDEX_LENGTH AS index_bytes
+                    FROM information_schema.TABLES
+                    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tb_vehicle'
+                    """);
+            long pageSplits = pageSplits();
+            System.out.printf("%n[%s/%s] InnoDB tb_vehicle, %d rows: clustered %d KiB, secondary %d KiB, "
+                            + "page splits %s%n",
+                    uuidVersion, uuidStorage, plates,
+                    ((Number) size.get("data_bytes")).longValue() / 1024,
+                    ((Number) size.get("index_bytes")).longValue() / 1024,
+                    pageSplits < 0 ? "n/a" : String.valueOf(pageSplits - pageSplitsBefore));
+        }
+        context.close();
+    }
+
+    // The counter is server-wide and off by default; enabling it needs SYSTEM_VARIABLES_ADMIN, so -1
+    // means it could not be read rather than that nothing split
+    private long pageSplits() {
+        try {
+            jdbcTemplate.execute("SET GLOBAL innodb_monitor_enable = 'index_page_splits'");
+            Long count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT FROM information_schema.INNODB_METRICS WHERE NAME = 'index_page_splits'",
+                    Long.class);
+            return count == null ? -1 : count;
+        } catch (DataAccessException ex) {
+            return -1;
+        }
+    }
+
+    private Object key() {
+        UUID id = "V4".equals(uuidVersion) ? UUID.randomUUID() : UuidVersion7Strategy.INSTANCE.generateUuid(null);
+        if ("CHAR".equals(uuidStorage)) {
+            return id.toString();
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    @Benchmark
+    public int[] insertBatch() {
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            rows.add(new Object[]{key(), "P" + plates++, MILEAGE, PRICE});
+        }
+        return jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+}
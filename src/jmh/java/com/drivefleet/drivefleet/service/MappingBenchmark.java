@@ -0,0 +1,65 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.benchmark.Fixtures;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderResponse;
+import com.drivefleet.drivefleet.domain.dto.seller.SellerResponse;
+import com.drivefleet.drivefleet.domain.dto.user.UserResponse;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Pure entity-to-DTO conversion on detached graphs; the services' collaborators are never touched.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"0", "10", "100", "1000"})
+    public int salesPerSeller;
+
+    private UserService userService;
+    private SalesOrderService salesOrderService;
+    private SellerService sellerService;
+    private Seller seller;
+
+    @Setup
+    public void setup() {
+        userService = new UserService(null, null, null);
+        salesOrderService = new SalesOrderService(null, null, null, null, null);
+        sellerService = new SellerService(null, userService, salesOrderService, null, null);
+        seller = Fixtures.sellerGraph(salesPerSeller);
+    }
+
+    @Benchmark
+    public UserResponse userConvertToResponse() {
+        return userService.convertToResponse(seller.getUser());
+    }
+
+    @Benchmark
+    public SellerResponse sellerConvertToResponse() {
+        return sellerService.convertToResponse(seller, List.of());
+    }
+
+    @Benchmark
+    public SellerResponse sellerGraphConvertToResponse() {
+        List<SalesOrderResponse> sales = seller.getSales().stream()
+                .map(salesOrderService::convertToResponse)
+                .toList();
+        return sellerService.convertToResponse(seller, sales);
+    }
+}
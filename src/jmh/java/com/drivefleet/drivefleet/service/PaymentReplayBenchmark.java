@@ -0,0 +1,93 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.benchmark.BenchmarkContext;
+import com.drivefleet.drivefleet.benchmark.Fixtures;
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentReceipt;
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentRequest;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderRequest;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderResponse;
+import com.drivefleet.drivefleet.domain.entities.Customer;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
+import com.drivefleet.drivefleet.domain.enums.PaymentStatus;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.repository.CustomerRepository;
+import com.drivefleet.drivefleet.repository.SellerRepository;
+import com.drivefleet.drivefleet.repository.UserRepository;
+import com.drivefleet.drivefleet.repository.VehicleRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// A storm of retried callbacks for one already-registered payment. With a cache size of zero every
+// replay is answered from TB_IDEMPOTENCY_RECORD instead of the in-memory LRU.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class PaymentReplayBenchmark {
+
+    private static final String KEY = "replay-storm";
+
+    @Param({"10000", "0"})
+    public int cacheSize;
+
+    private ConfigurableApplicationContext context;
+    private PaymentService paymentService;
+    private PaymentRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkContext.start("drivefleet.payments.idempotency.cache-size=" + cacheSize);
+        paymentService = context.getBean(PaymentService.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        Customer customer = context.getBean(CustomerRepository.class).save(Customer.builder()
+                .cpf(12345678901L)
+                .phone(11999990000L)
+                .address("Rua A, 100")
+                .user(userRepository.save(Fixtures.user("customer@bench.com", UserRole.CUSTOMER)))
+                .build());
+        Seller seller = context.getBean(SellerRepository.class).save(Seller.builder()
+                .registrationNumber(10_000_001L)
+                .user(userRepository.save(Fixtures.user("seller@bench.com", UserRole.SELLER)))
+                .build());
+        Vehicle vehicle = context.getBean(VehicleRepository.class).save(Fixtures.vehicle("ABC1D23"));
+
+        SalesOrderResponse order = context.getBean(SalesOrderService.class)
+                .create(new SalesOrderRequest(customer.getId(), seller.getId(), vehicle.getId()));
+        request = new PaymentRequest(LocalDate.now(), new BigDecimal("120000.00"), PaymentMethod.PIX,
+                PaymentStatus.APPROVED, order.id());
+        paymentService.ingest(KEY, request);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PaymentReceipt replay() {
+        return paymentService.ingest(KEY, request);
+    }
+}
@@ -0,0 +1,99 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.benchmark.BenchmarkContext;
+import com.drivefleet.drivefleet.benchmark.Fixtures;
+import com.drivefleet.drivefleet.config.RegistrationNumberProperties;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.repository.NumberSequenceRepository;
+import com.drivefleet.drivefleet.repository.SellerRepository;
+import com.drivefleet.drivefleet.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// One operation hands out every free number in a range of RANGE, of which fillRatio is already held by
+// sellers registered with random numbers before the allocator existed.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RegistrationNumberAllocatorBenchmark {
+
+    private static final long FIRST = 10_000_000L;
+    private static final int RANGE = 10_000;
+
+    @Param({"0.0", "0.5", "0.9"})
+    public double fillRatio;
+
+    @Param({"100", "1000"})
+    public int blockSize;
+
+    private ConfigurableApplicationContext context;
+    private NumberSequenceRepository sequenceRepository;
+    private SellerRepository sellerRepository;
+    private PlatformTransactionManager transactionManager;
+    private RegistrationNumberProperties properties;
+    private RegistrationNumberAllocator allocator;
+    private int free;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkContext.start();
+        sequenceRepository = context.getBean(NumberSequenceRepository.class);
+        sellerRepository = context.getBean(SellerRepository.class);
+        transactionManager = context.getBean(PlatformTransactionManager.class);
+        properties = new RegistrationNumberProperties("benchmark", blockSize, FIRST, FIRST + RANGE * 2L);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        Random random = new Random(42);
+        List<Seller> sellers = new ArrayList<>();
+        for (int offset = 0; offset < RANGE; offset++) {
+            if (random.nextDouble() < fillRatio) {
+                User user = userRepository.save(Fixtures.user("legacy" + offset + "@bench.com", UserRole.SELLER));
+                sellers.add(Seller.builder().registrationNumber(FIRST + offset).user(user).build());
+            }
+        }
+        sellerRepository.saveAll(sellers);
+        free = RANGE - sellers.size();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetSequence() {
+        sequenceRepository.deleteAllInBatch();
+        allocator = new RegistrationNumberAllocator(sequenceRepository, sellerRepository, properties, transactionManager);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void allocateRange(Blackhole blackhole) {
+        for (int i = 0; i < free; i++) {
+            blackhole.consume(allocator.next());
+        }
+    }
+}
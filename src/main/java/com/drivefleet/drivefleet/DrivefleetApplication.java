@@ -1,9 +1,16 @@
 package com.drivefleet.drivefleet;
 
+import com.drivefleet.drivefleet.repository.NaturalIdJpaRepository;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableJpaRepositories(repositoryBaseClass = NaturalIdJpaRepository.class)
+@EnableScheduling
 public class DrivefleetApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,38 @@
+package com.drivefleet.drivefleet.analytics;
+
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Carries everything a rollup needs, so applying it never reads the order back. previous is null for
+// a new order; paymentMethod is set only when the order is finalized.
+public record OrderStatusChangedEvent(
+        UUID orderId,
+        UUID sellerId,
+        LocalDate creationDate,
+        BigDecimal totalValue,
+        OrderStatus previous,
+        OrderStatus current,
+        PaymentMethod paymentMethod
+) {
+
+    public static OrderStatusChangedEvent created(UUID orderId, UUID sellerId, LocalDate creationDate,
+                                                  BigDecimal totalValue, OrderStatus status) {
+        return new OrderStatusChangedEvent(orderId, sellerId, creationDate, totalValue, null, status, null);
+    }
+
+    public static OrderStatusChangedEvent finalized(UUID orderId, UUID sellerId, LocalDate creationDate,
+                                                    BigDecimal totalValue, PaymentMethod paymentMethod) {
+        return new OrderStatusChangedEvent(orderId, sellerId, creationDate, totalValue,
+                OrderStatus.AWAITING_PAYMENT, OrderStatus.FINALIZED, paymentMethod);
+    }
+
+    public static OrderStatusChangedEvent canceled(UUID orderId, UUID sellerId, LocalDate creationDate,
+                                                   BigDecimal totalValue) {
+        return new OrderStatusChangedEvent(orderId, sellerId, creationDate, totalValue,
+                OrderStatus.AWAITING_PAYMENT, OrderStatus.CANCELED, null);
+    }
+}
@@ -0,0 +1,312 @@
+package com.drivefleet.drivefleet.analytics;
+
+import com.drivefleet.drivefleet.domain.dto.analytics.SalesAnalyticsResponse;
+import com.drivefleet.drivefleet.domain.dto.analytics.SalesPeriodResponse;
+import com.drivefleet.drivefleet.domain.dto.analytics.SalesTotalsResponse;
+import com.drivefleet.drivefleet.domain.entities.SalesRollup;
+import com.drivefleet.drivefleet.domain.enums.AnalyticsGranularity;
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
+import com.drivefleet.drivefleet.domain.enums.RollupDimension;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Every (seller, creation day, bucket) rollup owns a slot found through a packed long key: the seller's
+// ordinal in the high 32 bits, the epoch day and bucket code in the low 32. Counts and values live in
+// primitive arrays indexed by slot and each seller lists its own slots, so a dashboard query walks
+// buckets, never orders.
+public class SalesRollupIndex {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final PaymentMethod[] METHODS = PaymentMethod.values();
+    private static final int CODES = STATUSES.length + METHODS.length;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<UUID, Integer> sellerOrdinals;
+    private LongIntMap slotsByKey;
+    private int[][] slotsBySeller;
+    private int[] slotCountBySeller;
+    private int[] epochDays;
+    private byte[] codes;
+    private long[] orderCounts;
+    private long[] valueCents;
+    private int size;
+
+    public SalesRollupIndex() {
+        reset();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(UUID sellerId, LocalDate bucketDate, Enum<?> bucket, long count, BigDecimal value) {
+        lock.writeLock().lock();
+        try {
+            int slot = slot(sellerId, bucketDate, code(bucket));
+            orderCounts[slot] += count;
+            valueCents[slot] += toCents(value);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replaceAll(Collection<SalesRollup> rollups) {
+        lock.writeLock().lock();
+        try {
+            reset();
+            for (SalesRollup rollup : rollups) {
+                int slot = slot(rollup.getId().getSellerId(), rollup.getId().getBucketDate(),
+                        code(bucket(rollup.getId().getDimension(), rollup.getId().getBucket())));
+                orderCounts[slot] += rollup.getOrderCount();
+                valueCents[slot] += toCents(rollup.getTotalValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // sellerId null aggregates every seller
+    public SalesAnalyticsResponse query(UUID sellerId, LocalDate from, LocalDate to, AnalyticsGranularity granularity) {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        TreeMap<Long, long[]> periods = new TreeMap<>();
+
+        lock.readLock().lock();
+        try {
+            if (sellerId == null) {
+                for (int slot = 0; slot < size; slot++) {
+                    accumulate(slot, fromDay, toDay, granularity, periods);
+                }
+            } else {
+                Integer seller = sellerOrdinals.get(sellerId);
+                for (int i = 0; seller != null && i < slotCountBySeller[seller]; i++) {
+                    accumulate(slotsBySeller[seller][i], fromDay, toDay, granularity, periods);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long[] overall = new long[CODES * 2];
+        List<SalesPeriodResponse> responses = new ArrayList<>(periods.size());
+        periods.forEach((day, totals) -> {
+            for (int i = 0; i < totals.length; i++) {
+                overall[i] += totals[i];
+            }
+            responses.add(convertToResponse(LocalDate.ofEpochDay(day), totals));
+        });
+
+        return SalesAnalyticsResponse.builder()
+                .sellerId(sellerId)
+                .from(from)
+                .to(to)
+                .granularity(granularity)
+                .revenue(totals(overall, OrderStatus.FINALIZED.ordinal()))
+                .periods(responses)
+                .build();
+    }
+
+    private void accumulate(int slot, long fromDay, long toDay, AnalyticsGranularity granularity,
+                            TreeMap<Long, long[]> periods) {
+        int day = epochDays[slot];
+        if (day < fromDay || day > toDay) {
+            return;
+        }
+        long period = granularity == AnalyticsGranularity.MONTH
+                ? LocalDate.ofEpochDay(day).withDayOfMonth(1).toEpochDay()
+                : day;
+        long[] totals = periods.computeIfAbsent(period, key -> new long[CODES * 2]);
+        totals[codes[slot]] += orderCounts[slot];
+        totals[CODES + codes[slot]] += valueCents[slot];
+    }
+
+    private SalesPeriodResponse convertToResponse(LocalDate period, long[] totals) {
+        Map<OrderStatus, SalesTotalsResponse> byStatus = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : STATUSES) {
+            if (totals[status.ordinal()] != 0) {
+                byStatus.put(status, totals(totals, status.ordinal()));
+            }
+        }
+        Map<PaymentMethod, SalesTotalsResponse> byPaymentMethod = new EnumMap<>(PaymentMethod.class);
+        for (PaymentMethod method : METHODS) {
+            int code = STATUSES.length + method.ordinal();
+            if (totals[code] != 0) {
+                byPaymentMethod.put(method, totals(totals, code));
+            }
+        }
+        return SalesPeriodResponse.builder()
+                .period(period)
+                .revenue(totals(totals, OrderStatus.FINALIZED.ordinal()))
+                .byStatus(byStatus)
+                .byPaymentMethod(byPaymentMethod)
+                .build();
+    }
+
+    private static SalesTotalsResponse totals(long[] totals, int code) {
+        long orders = totals[code];
+        BigDecimal value = BigDecimal.valueOf(totals[CODES + code], 2);
+        return SalesTotalsResponse.builder()
+                .orders(orders)
+                .value(value)
+                .averageTicket(orders == 0 ? BigDecimal.ZERO.setScale(2)
+                        : value.divide(BigDecimal.valueOf(orders), 2, RoundingMode.HALF_UP))
+                .build();
+    }
+
+    private int slot(UUID sellerId, LocalDate bucketDate, int code) {
+        int seller = sellerOrdinal(sellerId);
+        int day = (int) bucketDate.toEpochDay();
+        long key = ((long) seller << 32) | ((long) (day & 0xFFFFFF) << 8) | code;
+
+        int slot = slotsByKey.get(key);
+        if (slot >= 0) {
+            return slot;
+        }
+        slot = size++;
+        if (slot == epochDays.length) {
+            grow(slot * 2);
+        }
+        epochDays[slot] = day;
+        codes[slot] = (byte) code;
+        slotsByKey.put(key, slot);
+
+        if (slotCountBySeller[seller] == slotsBySeller[seller].length) {
+            slotsBySeller[seller] = Arrays.copyOf(slotsBySeller[seller], slotCountBySeller[seller] * 2);
+        }
+        slotsBySeller[seller][slotCountBySeller[seller]++] = slot;
+        return slot;
+    }
+
+    private int sellerOrdinal(UUID sellerId) {
+        Integer existing = sellerOrdinals.get(sellerId);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = sellerOrdinals.size();
+        sellerOrdinals.put(sellerId, ordinal);
+        if (ordinal == slotsBySeller.length) {
+            slotsBySeller = Arrays.copyOf(slotsBySeller, ordinal * 2);
+            slotCountBySeller = Arrays.copyOf(slotCountBySeller, ordinal * 2);
+        }
+        slotsBySeller[ordinal] = new int[8];
+        return ordinal;
+    }
+
+    private void grow(int capacity) {
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        codes = Arrays.copyOf(codes, capacity);
+        orderCounts = Arrays.copyOf(orderCounts, capacity);
+        valueCents = Arrays.copyOf(valueCents, capacity);
+    }
+
+    private void reset() {
+        sellerOrdinals = new HashMap<>();
+        slotsByKey = new LongIntMap(INITIAL_CAPACITY);
+        slotsBySeller = new int[16][];
+        slotCountBySeller = new int[16];
+        epochDays = new int[INITIAL_CAPACITY];
+        codes = new byte[INITIAL_CAPACITY];
+        orderCounts = new long[INITIAL_CAPACITY];
+        valueCents = new long[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    private static int code(Enum<?> bucket) {
+        return switch (bucket) {
+            case OrderStatus status -> status.ordinal();
+            case PaymentMethod method -> STATUSES.length + method.ordinal();
+            default -> throw new IllegalArgumentException("Not a rollup bucket: " + bucket);
+        };
+    }
+
+    static Enum<?> bucket(RollupDimension dimension, String name) {
+        return switch (dimension) {
+            case ORDER_STATUS -> OrderStatus.valueOf(name);
+            case PAYMENT_METHOD -> PaymentMethod.valueOf(name);
+        };
+    }
+
+    private static long toCents(BigDecimal value) {
+        return value.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    // Open addressing with linear probing; -1 marks a free entry
+    private static final class LongIntMap {
+
+        private long[] keys;
+        private int[] values;
+        private int count;
+
+        private LongIntMap(int capacity) {
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, -1);
+        }
+
+        private int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = index(key, mask); values[i] >= 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return -1;
+        }
+
+        private void put(long key, int value) {
+            if ((count + 1) * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (values[i] >= 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (values[i] < 0) {
+                count++;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, -1);
+            count = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] >= 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int index(long key, int mask) {
+            long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32)) & mask;
+        }
+    }
+}
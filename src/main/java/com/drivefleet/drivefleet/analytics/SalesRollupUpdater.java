@@ -0,0 +1,198 @@
+package com.drivefleet.drivefleet.analytics;
+
+import com.drivefleet.drivefleet.domain.entities.SalesRollup;
+import com.drivefleet.drivefleet.domain.entities.SalesRollupId;
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.domain.enums.RollupDimension;
+import com.drivefleet.drivefleet.repository.SalerOrderRepository;
+import com.drivefleet.drivefleet.repository.SalesRollupRepository;
+import com.drivefleet.drivefleet.repository.projection.RollupTotal;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Rollups move by deltas applied inside the order change's own transaction, just before it commits,
+// so a summary row can never disagree with the orders it counts. The in-memory index follows once the
+// transaction has committed. Order commits hold the read side of a lock from the table delta to the index
+// delta, and reloads take the write side, so a reload never reads a delta the index is about to add again.
+// Rows written by other nodes reach this node's index on the next refresh.
+@Slf4j
+@Component
+public class SalesRollupUpdater {
+
+    private final SalesRollupRepository rollupRepository;
+    private final SalerOrderRepository salesOrderRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final SalesRollupIndex index = new SalesRollupIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock(true);
+
+    public SalesRollupUpdater(SalesRollupRepository rollupRepository,
+                              SalerOrderRepository salesOrderRepository,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.salesOrderRepository = salesOrderRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public SalesRollupIndex index() {
+        return index;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        List<Delta> deltas = deltas(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> apply(deltas));
+            return;
+        }
+        apply(deltas);
+    }
+
+    private void apply(List<Delta> deltas) {
+        lock.readLock().lock();
+        try {
+            deltas.forEach(this::persist);
+        } catch (RuntimeException ex) {
+            lock.readLock().unlock();
+            throw ex;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        deltas.forEach(delta -> index.add(delta.sellerId(), delta.bucketDate(), delta.bucket(),
+                                delta.count(), delta.value()));
+                    }
+                } finally {
+                    lock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            if (rollupRepository.count() == 0 && salesOrderRepository.count() > 0) {
+                log.info("Sales rollups are empty, rebuilding them from the orders");
+                rebuildTable();
+            }
+            index.replaceAll(rollupRepository.findAll());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${drivefleet.analytics.refresh-interval:30s}",
+            initialDelayString = "${drivefleet.analytics.refresh-interval:30s}")
+    public void refresh() {
+        lock.writeLock().lock();
+        try {
+            index.replaceAll(rollupRepository.findAll());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildTable();
+            index.replaceAll(rollupRepository.findAll());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuildTable() {
+        transactionTemplate.executeWithoutResult(status -> {
+            rollupRepository.deleteAllInBatch();
+            salesOrderRepository.sumByStatus().forEach(total -> insert(RollupDimension.ORDER_STATUS, total));
+            salesOrderRepository.sumFinalizedByPaymentMethod()
+                    .forEach(total -> insert(RollupDimension.PAYMENT_METHOD, total));
+        });
+    }
+
+    private void insert(RollupDimension dimension, RollupTotal total) {
+        entityManager.persist(rollup(
+                new SalesRollupId(total.getSellerId(), total.getBucketDate(), dimension, total.getBucket().name()),
+                total.getOrderCount(), total.getTotalValue()));
+    }
+
+    // The row is looked up without locking first: an UPDATE that matches nothing would lock the gap
+    // where a concurrent order has to insert the same row.
+    private void persist(Delta delta) {
+        SalesRollupId id = new SalesRollupId(delta.sellerId(), delta.bucketDate(), delta.dimension(),
+                delta.bucket().name());
+        if (!rollupRepository.existsById(id)) {
+            createEmptyRow(id);
+        }
+        if (rollupRepository.addTo(id, delta.count(), delta.value()) == 0) {
+            // A rebuild removed the row since; the UPDATE above now holds its gap, so inserting here is safe
+            entityManager.persist(rollup(id, delta.count(), delta.value()));
+            entityManager.flush();
+        }
+    }
+
+    // Only the first order of a seller, day and bucket borrows a second connection, to commit the empty
+    // row on its own; whichever order gets there first creates it and the others just add to it.
+    private void createEmptyRow(SalesRollupId id) {
+        try {
+            // Flushed by the commit, which translates a duplicate key like the repositories do
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(rollup(id, 0, BigDecimal.ZERO)));
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Rollup row {} was created concurrently", id);
+        }
+    }
+
+    private static SalesRollup rollup(SalesRollupId id, long count, BigDecimal value) {
+        return SalesRollup.builder()
+                .id(id)
+                .orderCount(count)
+                .totalValue(value)
+                .build();
+    }
+
+    private static List<Delta> deltas(OrderStatusChangedEvent event) {
+        List<Delta> deltas = new ArrayList<>(3);
+        if (event.previous() != null) {
+            deltas.add(new Delta(event.sellerId(), event.creationDate(), RollupDimension.ORDER_STATUS,
+                    event.previous(), -1, event.totalValue().negate()));
+        }
+        deltas.add(new Delta(event.sellerId(), event.creationDate(), RollupDimension.ORDER_STATUS,
+                event.current(), 1, event.totalValue()));
+        if (event.current() == OrderStatus.FINALIZED && event.paymentMethod() != null) {
+            deltas.add(new Delta(event.sellerId(), event.creationDate(), RollupDimension.PAYMENT_METHOD,
+                    event.paymentMethod(), 1, event.totalValue()));
+        }
+        return deltas;
+    }
+
+    private record Delta(UUID sellerId, LocalDate bucketDate, RollupDimension dimension, Enum<?> bucket,
+                         long count, BigDecimal value) {}
+}
@@ -0,0 +1,10 @@
+package com.drivefleet.drivefleet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "drivefleet.imports")
+public record BulkImportProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("1000") int maxReportedErrors
+) {}
@@ -0,0 +1,10 @@
+package com.drivefleet.drivefleet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "drivefleet.datasource.pool")
+public record DataSourcePoolProperties(
+        @DefaultValue("0.9") double saturationThreshold
+) {
+}
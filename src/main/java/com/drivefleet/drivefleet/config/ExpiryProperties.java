@@ -0,0 +1,20 @@
+package com.drivefleet.drivefleet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "drivefleet.expiry")
+public record ExpiryProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("64") int wheelSize,
+        @DefaultValue("4") int levels,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("expiry-sweeper") String leaseName,
+        @DefaultValue("15s") Duration leaseDuration,
+        @DefaultValue("5s") Duration catchUpInterval,
+        @DefaultValue("30s") Duration catchUpOverlap,
+        @DefaultValue("5m") Duration fullRescanInterval
+) {}
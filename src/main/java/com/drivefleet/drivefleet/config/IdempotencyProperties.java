@@ -0,0 +1,12 @@
+package com.drivefleet.drivefleet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "drivefleet.payments.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("10000") int cacheSize,
+        @DefaultValue("24h") Duration retention
+) {}
@@ -0,0 +1,26 @@
+package com.drivefleet.drivefleet.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.flyway.autoconfigure.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Migrations declare key columns as ${uuid_type}, so they follow drivefleet.persistence.uuid-storage
+// the same way Hibernate binds the keys.
+@Configuration
+public class MigrationConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer uuidColumnPlaceholder(
+            @Value("${drivefleet.persistence.uuid-storage}") String uuidStorage) {
+        String columnType = "CHAR".equalsIgnoreCase(uuidStorage) ? "CHAR(36)" : "BINARY(16)";
+        return configuration -> {
+            Map<String, String> placeholders = new HashMap<>(configuration.getPlaceholders());
+            placeholders.put("uuid_type", columnType);
+            configuration.placeholders(placeholders);
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.drivefleet.drivefleet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "drivefleet.sellers.registration-number")
+public record RegistrationNumberProperties(
+        @DefaultValue("seller-registration-number") String sequenceName,
+        @DefaultValue("100") int blockSize,
+        @DefaultValue("10000000") long firstValue,
+        @DefaultValue("99999999") long maxValue
+) {}
@@ -0,0 +1,17 @@
+package com.drivefleet.drivefleet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "drivefleet.datasource.replica")
+public record ReplicaDataSourceProperties(
+        @DefaultValue("false") boolean enabled,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("2s") Duration maxLag,
+        @DefaultValue("1s") Duration heartbeatInterval,
+        @DefaultValue("5s") Duration stickyWindow
+) {}
@@ -0,0 +1,9 @@
+package com.drivefleet.drivefleet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "drivefleet.exports.sales-orders")
+public record SalesOrderExportProperties(
+        @DefaultValue("500") int fetchSize
+) {}
@@ -0,0 +1,19 @@
+package com.drivefleet.drivefleet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "drivefleet.sellers.listing")
+public record SellerListingProperties(
+        @DefaultValue("50") int defaultPageSize,
+        @DefaultValue("200") int maxPageSize,
+        @DefaultValue("5") int salesPerSeller
+) {
+
+    public int resolvePageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
+    }
+}
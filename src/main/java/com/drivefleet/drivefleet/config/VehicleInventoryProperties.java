@@ -0,0 +1,10 @@
+package com.drivefleet.drivefleet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "drivefleet.vehicles.inventory")
+public record VehicleInventoryProperties(
+        @DefaultValue("true") boolean indexEnabled,
+        @DefaultValue("1000") int loadBatchSize
+) {}
@@ -0,0 +1,13 @@
+package com.drivefleet.drivefleet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "drivefleet.vehicles.reservation")
+public record VehicleReservationProperties(
+        @DefaultValue("15m") Duration ttl,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("20ms") Duration retryBackoff
+) {}
@@ -0,0 +1,24 @@
+package com.drivefleet.drivefleet.config.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class SamplingFilter extends Filter<ILoggingEvent> {
+
+    private double rate = 1.0;
+
+    public void setRate(double rate) {
+        this.rate = Math.clamp(rate, 0.0, 1.0);
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+}
@@ -0,0 +1,22 @@
+package com.drivefleet.drivefleet.controller;
+
+import com.drivefleet.drivefleet.domain.dto.cache.CacheStatisticsResponse;
+import com.drivefleet.drivefleet.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/cache")
+@RequiredArgsConstructor
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping("/statistics")
+    public ResponseEntity<CacheStatisticsResponse> statistics() {
+        return ResponseEntity.ok(cacheStatisticsService.currentStatistics());
+    }
+}
@@ -0,0 +1,50 @@
+package com.drivefleet.drivefleet.controller;
+
+import com.drivefleet.drivefleet.domain.dto.imports.ImportReport;
+import com.drivefleet.drivefleet.domain.enums.ImportFormat;
+import com.drivefleet.drivefleet.exceptions.UnsupportedImportFormatException;
+import com.drivefleet.drivefleet.service.BulkImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/imports")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final BulkImportService bulkImportService;
+
+    @PostMapping(value = "/sellers", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV})
+    public ResponseEntity<ImportReport> importSellers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                      HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(bulkImportService.importSellers(request.getInputStream(), resolveFormat(contentType)));
+    }
+
+    @PostMapping(value = "/customers", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV})
+    public ResponseEntity<ImportReport> importCustomers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                        HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(bulkImportService.importCustomers(request.getInputStream(), resolveFormat(contentType)));
+    }
+
+    private ImportFormat resolveFormat(String contentType) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        if (MediaType.APPLICATION_NDJSON.includes(mediaType)) {
+            return ImportFormat.NDJSON;
+        }
+        if (MediaType.parseMediaType(TEXT_CSV).includes(mediaType)) {
+            return ImportFormat.CSV;
+        }
+        throw new UnsupportedImportFormatException(contentType);
+    }
+}
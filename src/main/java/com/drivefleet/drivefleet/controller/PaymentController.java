@@ -0,0 +1,37 @@
+package com.drivefleet.drivefleet.controller;
+
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentReceipt;
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentRequest;
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentResponse;
+import com.drivefleet.drivefleet.service.PaymentService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/payments")
+@RequiredArgsConstructor
+public class PaymentController {
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private final PaymentService paymentService;
+
+    @PostMapping
+    public ResponseEntity<PaymentResponse> ingest(@RequestHeader(IDEMPOTENCY_KEY) @NotBlank @Size(max = 128) String idempotencyKey,
+                                                  @Valid @RequestBody PaymentRequest request) {
+        PaymentReceipt receipt = paymentService.ingest(idempotencyKey, request);
+        return ResponseEntity.status(receipt.replayed() ? HttpStatus.OK : HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(receipt.replayed()))
+                .body(receipt.payment());
+    }
+}
@@ -0,0 +1,39 @@
+package com.drivefleet.drivefleet.controller;
+
+import com.drivefleet.drivefleet.domain.dto.analytics.SalesAnalyticsResponse;
+import com.drivefleet.drivefleet.domain.enums.AnalyticsGranularity;
+import com.drivefleet.drivefleet.service.SalesAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/analytics/sales")
+@RequiredArgsConstructor
+public class SalesAnalyticsController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    @GetMapping
+    public ResponseEntity<SalesAnalyticsResponse> summarize(
+            @RequestParam(required = false) UUID sellerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") AnalyticsGranularity granularity) {
+        return ResponseEntity.ok(salesAnalyticsService.summarize(sellerId, from, to, granularity));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        salesAnalyticsService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
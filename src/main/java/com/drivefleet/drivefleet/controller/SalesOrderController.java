@@ -0,0 +1,58 @@
+package com.drivefleet.drivefleet.controller;
+
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderRequest;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderResponse;
+import com.drivefleet.drivefleet.domain.enums.ExportFormat;
+import com.drivefleet.drivefleet.service.SalesOrderExportService;
+import com.drivefleet.drivefleet.service.SalesOrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/sales-orders")
+@RequiredArgsConstructor
+public class SalesOrderController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final SalesOrderService salesOrderService;
+    private final SalesOrderExportService salesOrderExportService;
+
+    @PostMapping
+    public ResponseEntity<SalesOrderResponse> create(@Valid @RequestBody SalesOrderRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(salesOrderService.create(request));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format == ExportFormat.CSV ? MediaType.parseMediaType(TEXT_CSV) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"sales-orders-" + from + "-" + to + "."
+                        + format.name().toLowerCase() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(salesOrderExportService.export(from, to, format, gzip));
+    }
+}
@@ -0,0 +1,45 @@
+package com.drivefleet.drivefleet.controller;
+
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleReservationResponse;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSearchRequest;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSearchResponse;
+import com.drivefleet.drivefleet.service.VehicleReservationService;
+import com.drivefleet.drivefleet.service.VehicleSearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/vehicles")
+@RequiredArgsConstructor
+public class VehicleController {
+
+    private final VehicleSearchService vehicleSearchService;
+    private final VehicleReservationService vehicleReservationService;
+
+    @GetMapping("/search")
+    public ResponseEntity<VehicleSearchResponse> search(@Valid @ModelAttribute VehicleSearchRequest request) {
+        return ResponseEntity.ok(vehicleSearchService.search(request));
+    }
+
+    @PostMapping("/{id}/reservations")
+    public ResponseEntity<VehicleReservationResponse> reserve(@PathVariable UUID id) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(vehicleReservationService.reserve(id));
+    }
+
+    @DeleteMapping("/{id}/reservations/{token}")
+    public ResponseEntity<Void> release(@PathVariable UUID id, @PathVariable UUID token) {
+        vehicleReservationService.release(id, token);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,6 @@
+package com.drivefleet.drivefleet.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,25 @@
+package com.drivefleet.drivefleet.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Hands the client's read-your-writes cookie to the tracker for the length of the request
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReadYourWritesTracker.Client previous = ReadYourWritesTracker.bind(
+                ReadYourWritesTracker.Client.of(request, response));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWritesTracker.restore(previous);
+        }
+    }
+}
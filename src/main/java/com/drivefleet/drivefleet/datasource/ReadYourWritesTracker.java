@@ -0,0 +1,133 @@
+package com.drivefleet.drivefleet.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.util.WebUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Remembers who committed a write recently, so their own reads stay on the primary until the replica
+// has had time to apply it. The commit time travels back to the client in a cookie, which keeps its next
+// requests on the primary whichever node serves them; the time comes from that node's clock, so skew
+// between nodes stretches or shortens the window. Clients that drop the cookie, like most scripts, stay
+// sticky only on the node that took the write, and only when signed in.
+public class ReadYourWritesTracker {
+
+    public static final String COOKIE = "drivefleet_last_write";
+
+    private static final ThreadLocal<Client> CLIENT = new ThreadLocal<>();
+
+    private final long windowNanos;
+    private final long windowMillis;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+        this.windowMillis = window.toMillis();
+    }
+
+    public void markWrite(String principal) {
+        if (principal != null) {
+            stickyUntil.put(principal, System.nanoTime() + windowNanos);
+        }
+        Client client = CLIENT.get();
+        if (client != null) {
+            client.wrote(System.currentTimeMillis(), windowMillis);
+        }
+    }
+
+    public boolean isSticky(String principal) {
+        Client client = CLIENT.get();
+        if (client != null && System.currentTimeMillis() - client.lastWriteMillis < windowMillis) {
+            return true;
+        }
+        if (principal == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(principal);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    @Scheduled(fixedDelayString = "${drivefleet.datasource.replica.sticky-window:5s}")
+    public void purge() {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    static Client currentClient() {
+        return CLIENT.get();
+    }
+
+    static Client bind(Client client) {
+        Client previous = CLIENT.get();
+        CLIENT.set(client);
+        return previous;
+    }
+
+    static void restore(Client previous) {
+        if (previous == null) {
+            CLIENT.remove();
+        } else {
+            CLIENT.set(previous);
+        }
+    }
+
+    // The client's last write as its cookie carried it in, plus the response to send a newer one out on
+    static final class Client {
+
+        private final HttpServletResponse response;
+        private long lastWriteMillis;
+
+        Client(long lastWriteMillis, HttpServletResponse response) {
+            this.lastWriteMillis = lastWriteMillis;
+            this.response = response;
+        }
+
+        static Client of(HttpServletRequest request, HttpServletResponse response) {
+            Cookie cookie = WebUtils.getCookie(request, COOKIE);
+            long lastWriteMillis = 0;
+            if (cookie != null) {
+                try {
+                    lastWriteMillis = Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    // A tampered cookie only costs the client its stickiness
+                }
+            }
+            return new Client(lastWriteMillis, response);
+        }
+
+        // For work that may outlive the request, when its response can no longer take a cookie
+        Client detached() {
+            return new Client(lastWriteMillis, null);
+        }
+
+        // Services commit before the controller writes the body, so the header can usually still go out
+        private void wrote(long nowMillis, long windowMillis) {
+            lastWriteMillis = nowMillis;
+            if (response == null || response.isCommitted()) {
+                return;
+            }
+            Cookie cookie = new Cookie(COOKIE, Long.toString(nowMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, Math.ceilDiv(windowMillis, 1000)));
+            response.addCookie(cookie);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.drivefleet.drivefleet.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Each tick stamps the heartbeat row on the primary and reads it back from the replica; the difference
+// is how far replication is behind. Until a fresh enough stamp is seen, or when the replica cannot be
+// reached, reads stay on the primary. Stamps come from each node's clock, so skew between nodes adds
+// to the measured lag.
+@Slf4j
+public class ReplicaLagMonitor implements HealthIndicator {
+
+    private static final String STAMP = "UPDATE tb_replication_heartbeat SET beat = ? WHERE id = 1";
+    private static final String READ = "SELECT beat FROM tb_replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+
+    private volatile boolean usable;
+    private volatile long lagMillis = -1;
+    private volatile String lastError;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${drivefleet.datasource.replica.heartbeat-interval:1s}")
+    public void check() {
+        long now = System.currentTimeMillis();
+        try {
+            primary.update(STAMP, now);
+        } catch (RuntimeException ex) {
+            // The primary being down is reported elsewhere; the replica's last stamp is still comparable
+            log.debug("Could not stamp the replication heartbeat", ex);
+        }
+        try {
+            Long beat = replica.queryForObject(READ, Long.class);
+            lagMillis = beat == null ? -1 : Math.max(0, now - beat);
+            lastError = null;
+        } catch (RuntimeException ex) {
+            lagMillis = -1;
+            lastError = ex.getClass().getSimpleName();
+        }
+        boolean nowUsable = lagMillis >= 0 && lagMillis <= maxLagMillis;
+        if (nowUsable != usable) {
+            log.info(nowUsable ? "Replica caught up ({} ms behind), routing reads to it"
+                    : "Replica unavailable or {} ms behind, routing reads to the primary", lagMillis);
+        }
+        usable = nowUsable;
+    }
+
+    @Override
+    public Health health() {
+        // A lagging replica costs throughput, not correctness, so it never takes the application down
+        Health.Builder health = Health.up()
+                .withDetail("servingReads", usable)
+                .withDetail("lagMillis", lagMillis)
+                .withDetail("maxLagMillis", maxLagMillis);
+        if (lastError != null) {
+            health.withDetail("error", lastError);
+        }
+        return health.build();
+    }
+}
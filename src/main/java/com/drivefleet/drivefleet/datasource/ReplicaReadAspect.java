@@ -0,0 +1,25 @@
+package com.drivefleet.drivefleet.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.transaction.annotation.Transactional;
+
+// Marks the calls that may be served by the replica: read-only service methods. Whether they are is
+// still decided per connection, by lag and read-your-writes.
+@Aspect
+public class ReplicaReadAspect {
+
+    @Around("execution(public * com.drivefleet.drivefleet.service..*(..)) && @annotation(transactional)")
+    public Object markServiceRead(ProceedingJoinPoint joinPoint, Transactional transactional) throws Throwable {
+        if (!transactional.readOnly()) {
+            return joinPoint.proceed();
+        }
+        boolean previous = ReplicaRoutingDataSource.beginServiceRead();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingDataSource.endServiceRead(previous);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.drivefleet.drivefleet.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+// Picks the pool when a connection is actually fetched, which behind a LazyConnectionDataSourceProxy
+// is the first statement of the transaction, after its read-only flag is known. Only read-only
+// transactions opened by a service method go to the replica; repository calls made outside one keep
+// Spring Data's implicit read-only transactions on the primary, since callers like the idempotency
+// check rely on seeing the latest commit. Reads that run outside such a method, like a programmatic
+// read-only TransactionTemplate or a body streamed from another thread, opt in through serviceReads.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> SERVICE_READ = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    ReadYourWritesTracker readYourWrites) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    static boolean beginServiceRead() {
+        boolean previous = Boolean.TRUE.equals(SERVICE_READ.get());
+        SERVICE_READ.set(true);
+        return previous;
+    }
+
+    static void endServiceRead(boolean previous) {
+        if (previous) {
+            SERVICE_READ.set(true);
+        } else {
+            SERVICE_READ.remove();
+        }
+    }
+
+    // Runs each task inline as a service read; the caller's read-your-writes cookie is captured now, so
+    // the tasks may run later on another thread
+    public static Executor serviceReads() {
+        ReadYourWritesTracker.Client current = ReadYourWritesTracker.currentClient();
+        ReadYourWritesTracker.Client client = current == null ? null : current.detached();
+        return task -> {
+            boolean previous = beginServiceRead();
+            ReadYourWritesTracker.Client previousClient = ReadYourWritesTracker.bind(client);
+            try {
+                task.run();
+            } finally {
+                ReadYourWritesTracker.restore(previousClient);
+                endServiceRead(previous);
+            }
+        };
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWrite();
+            return DataSourceRole.PRIMARY;
+        }
+        if (!Boolean.TRUE.equals(SERVICE_READ.get()) || !lagMonitor.isUsable()
+                || readYourWrites.isSticky(ReadYourWritesTracker.currentPrincipal())) {
+            return DataSourceRole.PRIMARY;
+        }
+        return DataSourceRole.REPLICA;
+    }
+
+    // Stickiness starts at commit: a rolled back write leaves nothing the replica could be missing
+    private void rememberWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        String principal = ReadYourWritesTracker.currentPrincipal();
+        if (principal != null || ReadYourWritesTracker.currentClient() != null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWrites.markWrite(principal);
+                }
+            });
+        }
+    }
+}
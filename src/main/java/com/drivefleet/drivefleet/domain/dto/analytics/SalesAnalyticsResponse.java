@@ -0,0 +1,18 @@
+package com.drivefleet.drivefleet.domain.dto.analytics;
+
+import com.drivefleet.drivefleet.domain.enums.AnalyticsGranularity;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record SalesAnalyticsResponse(
+        UUID sellerId,
+        LocalDate from,
+        LocalDate to,
+        AnalyticsGranularity granularity,
+        SalesTotalsResponse revenue,
+        List<SalesPeriodResponse> periods
+) {}
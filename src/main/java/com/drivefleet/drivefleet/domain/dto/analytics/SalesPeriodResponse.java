@@ -0,0 +1,16 @@
+package com.drivefleet.drivefleet.domain.dto.analytics;
+
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Builder
+public record SalesPeriodResponse(
+        LocalDate period,
+        SalesTotalsResponse revenue,
+        Map<OrderStatus, SalesTotalsResponse> byStatus,
+        Map<PaymentMethod, SalesTotalsResponse> byPaymentMethod
+) {}
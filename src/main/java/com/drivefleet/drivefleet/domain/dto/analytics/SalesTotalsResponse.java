@@ -0,0 +1,12 @@
+package com.drivefleet.drivefleet.domain.dto.analytics;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+public record SalesTotalsResponse(
+        long orders,
+        BigDecimal value,
+        BigDecimal averageTicket
+) {}
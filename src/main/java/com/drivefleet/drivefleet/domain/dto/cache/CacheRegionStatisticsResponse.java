@@ -0,0 +1,12 @@
+package com.drivefleet.drivefleet.domain.dto.cache;
+
+import lombok.Builder;
+
+@Builder
+public record CacheRegionStatisticsResponse(
+        String region,
+        long hitCount,
+        long missCount,
+        long putCount,
+        long elementCountInMemory
+) {}
@@ -0,0 +1,17 @@
+package com.drivefleet.drivefleet.domain.dto.cache;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CacheStatisticsResponse(
+        boolean statisticsEnabled,
+        long secondLevelHitCount,
+        long secondLevelMissCount,
+        long queryCacheHitCount,
+        long queryCacheMissCount,
+        long naturalIdCacheHitCount,
+        long naturalIdCacheMissCount,
+        List<CacheRegionStatisticsResponse> regions
+) {}
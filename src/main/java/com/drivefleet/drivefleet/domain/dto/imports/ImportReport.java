@@ -0,0 +1,13 @@
+package com.drivefleet.drivefleet.domain.dto.imports;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ImportReport(
+        long received,
+        long imported,
+        long rejected,
+        List<ImportRowError> errors
+) {}
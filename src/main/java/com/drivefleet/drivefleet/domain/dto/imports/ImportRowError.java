@@ -0,0 +1,6 @@
+package com.drivefleet.drivefleet.domain.dto.imports;
+
+public record ImportRowError(
+        long line,
+        String message
+) {}
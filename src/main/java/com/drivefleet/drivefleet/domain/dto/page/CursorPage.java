@@ -0,0 +1,13 @@
+package com.drivefleet.drivefleet.domain.dto.page;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CursorPage<T>(
+        List<T> items,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {}
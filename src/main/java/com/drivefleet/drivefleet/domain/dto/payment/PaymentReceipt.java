@@ -0,0 +1,6 @@
+package com.drivefleet.drivefleet.domain.dto.payment;
+
+public record PaymentReceipt(
+        PaymentResponse payment,
+        boolean replayed
+) {}
@@ -1,5 +1,17 @@
 package com.drivefleet.drivefleet.domain.dto.salesorder;
 
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
 public record SalesOrderRequest(
 
+        @NotNull(message = "Customer ID is required")
+        UUID customerId,
+
+        @NotNull(message = "Seller ID is required")
+        UUID sellerId,
+
+        @NotNull(message = "Vehicle ID is required")
+        UUID vehicleId
 ) {}
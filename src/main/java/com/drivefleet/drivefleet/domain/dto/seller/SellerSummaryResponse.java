@@ -2,6 +2,8 @@ package com.drivefleet.drivefleet.domain.dto.seller;
 
 import lombok.Builder;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.UUID;
 
 @Builder
@@ -9,5 +11,8 @@ public record SellerSummaryResponse(
         UUID id,
         Long registrationNumber,
         String name,
-        String email
+        String email,
+        Long salesCount,
+        BigDecimal totalValue,
+        LocalDate lastSaleDate
 ) {}
@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.domain.dto.user;
+
+import com.drivefleet.drivefleet.domain.enums.ExclusionOutcome;
+import lombok.Builder;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Builder
+public record ExclusionReport(
+        long requested,
+        long excluded,
+        Map<UUID, ExclusionOutcome> outcomes
+) {}
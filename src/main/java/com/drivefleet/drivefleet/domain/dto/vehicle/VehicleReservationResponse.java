@@ -0,0 +1,13 @@
+package com.drivefleet.drivefleet.domain.dto.vehicle;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Builder
+public record VehicleReservationResponse(
+        UUID vehicleId,
+        UUID reservationToken,
+        Instant reservedUntil
+) {}
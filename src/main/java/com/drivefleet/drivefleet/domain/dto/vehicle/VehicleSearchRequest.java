@@ -0,0 +1,45 @@
+package com.drivefleet.drivefleet.domain.dto.vehicle;
+
+import com.drivefleet.drivefleet.domain.enums.VehicleSortField;
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+@Builder
+public record VehicleSearchRequest(
+        Set<String> brands,
+        Set<String> models,
+        Set<String> colors,
+        Set<VehicleStatus> statuses,
+        Integer minYearModel,
+        Integer maxYearModel,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        BigDecimal minMileage,
+        BigDecimal maxMileage,
+        VehicleSortField sort,
+        Boolean descending,
+
+        @Min(value = 0, message = "Page cannot be negative")
+        Integer page,
+
+        @Min(value = 1, message = "Size must be at least 1")
+        @Max(value = 200, message = "Size cannot be greater than 200")
+        Integer size
+) {
+
+    public VehicleSearchRequest {
+        brands = brands == null ? Set.of() : Set.copyOf(brands);
+        models = models == null ? Set.of() : Set.copyOf(models);
+        colors = colors == null ? Set.of() : Set.copyOf(colors);
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+        sort = sort == null ? VehicleSortField.PRICE : sort;
+        descending = descending != null && descending;
+        page = page == null ? 0 : page;
+        size = size == null ? 20 : size;
+    }
+}
@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.domain.dto.vehicle;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+
+@Builder
+public record VehicleSearchResponse(
+        List<VehicleSummaryResponse> items,
+        long total,
+        Map<String, Map<String, Long>> facets,
+        boolean fromIndex
+) {}
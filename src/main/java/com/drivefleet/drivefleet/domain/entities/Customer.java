@@ -2,12 +2,25 @@ package com.drivefleet.drivefleet.domain.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "TB_CUSTOMER")
+@Table(
+        name = "TB_CUSTOMER",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UK_CUSTOMER_CPF", columnNames = "cpf"),
+                @UniqueConstraint(name = "UK_CUSTOMER_PHONE", columnNames = "phone")
+        }
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "drivefleet-customer")
+@NaturalIdCache
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,14 +29,14 @@ import java.util.UUID;
 public class Customer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(columnDefinition = "CHAR(36)")
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
-    @Column(nullable = false, unique = true)
+    @NaturalId
+    @Column(nullable = false, updatable = false)
     private Long cpf;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private Long phone;
 
     @Column(nullable = false)
@@ -0,0 +1,75 @@
+package com.drivefleet.drivefleet.domain.entities;
+
+import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
+import com.drivefleet.drivefleet.domain.enums.PaymentStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Entity
+@Table(
+        name = "TB_IDEMPOTENCY_RECORD",
+        indexes = @Index(name = "IDX_IDEMPOTENCY_RECORD_CREATED_AT", columnList = "createdAt")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 128)
+    private String key;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    // Null only while the claiming transaction is still registering the payment
+    private UUID paymentId;
+
+    @Column(nullable = false)
+    private UUID salesOrderId;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentMethod method;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentStatus status;
+
+    private LocalDate paymentDate;
+
+    // The key is assigned, so without this a save would merge over a record another retry just wrote
+    @Transient
+    @Builder.Default
+    private boolean persisted = false;
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -4,13 +4,17 @@ import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
 import com.drivefleet.drivefleet.domain.enums.PaymentStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "TB_PAYMENT")
+@Table(
+        name = "TB_PAYMENT",
+        uniqueConstraints = @UniqueConstraint(name = "UK_PAYMENT_SALES_ORDER", columnNames = "sales_order_id")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,8 +23,7 @@ import java.util.UUID;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(columnDefinition = "CHAR(36)")
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     private LocalDate paymentDate;
@@ -37,6 +40,6 @@ public class Payment {
     private PaymentStatus status;
 
     @OneToOne
-    @JoinColumn(name = "sales_order_id", unique = true, nullable = false)
+    @JoinColumn(name = "sales_order_id", nullable = false)
     private SalesOrder salesOrder;
 }
\ No newline at end of file
@@ -3,13 +3,23 @@ package com.drivefleet.drivefleet.domain.entities;
 import com.drivefleet.drivefleet.domain.enums.OrderStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "TB_SALES_ORDER")
+@Table(
+        name = "TB_SALES_ORDER",
+        indexes = {
+                @Index(name = "IDX_SALES_ORDER_SELLER_CREATION", columnList = "seller_id, creationDate, id"),
+                @Index(name = "IDX_SALES_ORDER_CUSTOMER_CREATION", columnList = "customer_id, creationDate, id"),
+                @Index(name = "IDX_SALES_ORDER_STATUS_PAYMENT_DEADLINE", columnList = "status, paymentDeadline"),
+                @Index(name = "IDX_SALES_ORDER_CREATION", columnList = "creationDate, id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,8 +28,7 @@ import java.util.UUID;
 public class SalesOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(columnDefinition = "CHAR(36)")
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     @Column(nullable = false)
@@ -27,6 +36,8 @@ public class SalesOrder {
 
     private LocalDate conclusionDate;
 
+    private Instant paymentDeadline;
+
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal totalValue;
 
@@ -35,11 +46,11 @@ public class SalesOrder {
     private OrderStatus status;
 
     @ManyToOne(optional = false)
-    @JoinColumn(name = "customer_id")
+    @JoinColumn(name = "customer_id", foreignKey = @ForeignKey(name = "FK_SALES_ORDER_CUSTOMER"))
     private Customer customer;
 
     @ManyToOne(optional = false)
-    @JoinColumn(name = "seller_id")
+    @JoinColumn(name = "seller_id", foreignKey = @ForeignKey(name = "FK_SALES_ORDER_SELLER"))
     private Seller seller;
 
     @OneToOne
@@ -0,0 +1,31 @@
+package com.drivefleet.drivefleet.domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+// One row per seller, order creation day and bucket: an OrderStatus for ORDER_STATUS rows, the
+// PaymentMethod of finalized orders for PAYMENT_METHOD rows.
+@Entity
+@Table(name = "TB_SALES_ROLLUP")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesRollup {
+    @EmbeddedId
+    private SalesRollupId id;
+    @Column(nullable = false)
+    private Long orderCount;
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal totalValue;
+}
@@ -0,0 +1,36 @@
+package com.drivefleet.drivefleet.domain.entities;
+
+import com.drivefleet.drivefleet.domain.enums.RollupDimension;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class SalesRollupId implements Serializable {
+    @Column(nullable = false)
+    private UUID sellerId;
+    @Column(nullable = false)
+    private LocalDate bucketDate;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private RollupDimension dimension;
+    @Column(nullable = false, length = 32)
+    private String bucket;
+}
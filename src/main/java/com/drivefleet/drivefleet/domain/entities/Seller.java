@@ -1,13 +1,24 @@
 package com.drivefleet.drivefleet.domain.entities;
 
+import com.drivefleet.drivefleet.exceptions.RegistrationNumberImmutableException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "TB_SELLER")
+@Table(
+        name = "TB_SELLER",
+        uniqueConstraints = @UniqueConstraint(name = "UK_SELLER_REGISTRATION_NUMBER", columnNames = "registrationNumber")
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "drivefleet-seller")
+@NaturalIdCache
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,18 +27,26 @@ import java.util.UUID;
 public class Seller {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(columnDefinition = "CHAR(36)")
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     @OneToOne(optional = false)
     @JoinColumn(name = "user_id", unique = true)
     private User user;
 
-    @Column(nullable = false, unique = true, updatable = false)
+    @NaturalId
+    @Column(nullable = false, updatable = false)
     private Long registrationNumber;
 
     @OneToMany(mappedBy = "seller")
     private List<SalesOrder> sales;
+
+    // An immutable natural id: refused here rather than by Hibernate when the session flushes
+    public void setRegistrationNumber(Long registrationNumber) {
+        if (this.registrationNumber != null && !this.registrationNumber.equals(registrationNumber)) {
+            throw new RegistrationNumberImmutableException(this.registrationNumber);
+        }
+        this.registrationNumber = registrationNumber;
+    }
 }
 
@@ -4,11 +4,22 @@ import com.drivefleet.drivefleet.domain.enums.UserRole;
 import com.drivefleet.drivefleet.domain.enums.UserStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "TB_USER")
+@Table(
+        name = "TB_USER",
+        uniqueConstraints = @UniqueConstraint(name = "UK_USER_EMAIL", columnNames = "email"),
+        indexes = @Index(name = "IDX_USER_STATUS", columnList = "status")
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "drivefleet-user")
+@NaturalIdCache
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,14 +28,14 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(columnDefinition = "CHAR(36)")
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    @NaturalId(mutable = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
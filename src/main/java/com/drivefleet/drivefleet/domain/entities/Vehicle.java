@@ -3,12 +3,27 @@ package com.drivefleet.drivefleet.domain.entities;
 import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "TB_VEHICLE")
+@Table(
+        name = "TB_VEHICLE",
+        uniqueConstraints = @UniqueConstraint(name = "UK_VEHICLE_PLATE", columnNames = "plate"),
+        indexes = {
+                @Index(name = "IDX_VEHICLE_STATUS_PRICE", columnList = "status, price"),
+                @Index(name = "IDX_VEHICLE_STATUS_RESERVED_UNTIL", columnList = "status, reservedUntil")
+        }
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "drivefleet-vehicle")
+@NaturalIdCache
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,8 +32,7 @@ import java.util.UUID;
 public class Vehicle {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(columnDefinition = "CHAR(36)")
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     @Column(nullable = false)
@@ -33,7 +47,8 @@ public class Vehicle {
     @Column(nullable = false)
     private Integer yearModel;
 
-    @Column(nullable = false, unique = true)
+    @NaturalId(mutable = true)
+    @Column(nullable = false)
     private String plate;
 
     @Column(nullable = false)
@@ -49,6 +64,14 @@ public class Vehicle {
     @Column(nullable = false)
     private VehicleStatus status;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    private Instant reservedUntil;
+
+    private UUID reservationToken;
+
     @OneToOne(mappedBy = "vehicle")
     @JoinColumn(name = "sales_order_id", unique = true)
     private SalesOrder salesOrder;
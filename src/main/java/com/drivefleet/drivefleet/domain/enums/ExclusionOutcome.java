@@ -0,0 +1,8 @@
+package com.drivefleet.drivefleet.domain.enums;
+
+public enum ExclusionOutcome {
+    EXCLUDED,
+    ALREADY_EXCLUDED,
+    HAS_SALES,
+    NOT_FOUND
+}
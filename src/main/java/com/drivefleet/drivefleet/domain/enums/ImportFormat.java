@@ -0,0 +1,6 @@
+package com.drivefleet.drivefleet.domain.enums;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,7 @@
+package com.drivefleet.drivefleet.domain.enums;
+
+public enum VehicleSortField {
+    PRICE,
+    YEAR_MODEL,
+    MILEAGE
+}
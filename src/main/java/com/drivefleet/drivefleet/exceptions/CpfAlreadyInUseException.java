@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class CpfAlreadyInUseException extends DomainException {
+
+    public CpfAlreadyInUseException(Long cpf) {
+        super(
+                "PARAM-CONFLICT-" + HttpStatus.CONFLICT.value(),
+                "Customer with CPF " + cpf + " already exists",
+                HttpStatus.CONFLICT
+        );
+    }
+}
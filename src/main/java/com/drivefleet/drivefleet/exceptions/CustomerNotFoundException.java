@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class CustomerNotFoundException extends DomainException {
+
+    public CustomerNotFoundException(String id) {
+        super(
+                "CUSTOMER-NOT-FOUND-" + HttpStatus.NOT_FOUND.value(),
+                "Customer with id " + id + " not found",
+                HttpStatus.NOT_FOUND
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyKeyReuseException extends DomainException {
+
+    public IdempotencyKeyReuseException(String key) {
+        super(
+                "IDEMPOTENCY-KEY-REUSED-" + HttpStatus.CONFLICT.value(),
+                "Idempotency key " + key + " was already used for a different payment",
+                HttpStatus.CONFLICT
+        );
+    }
+}
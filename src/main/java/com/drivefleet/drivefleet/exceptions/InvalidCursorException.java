@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends DomainException {
+
+    public InvalidCursorException(String cursor) {
+        super(
+                "INVALID-CURSOR-" + HttpStatus.BAD_REQUEST.value(),
+                "Cursor " + cursor + " is not valid for this listing",
+                HttpStatus.BAD_REQUEST
+        );
+    }
+}
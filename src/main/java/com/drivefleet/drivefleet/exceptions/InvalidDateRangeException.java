@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidDateRangeException extends DomainException {
+
+    public InvalidDateRangeException(String from, String to) {
+        super(
+                "INVALID-DATE-RANGE-" + HttpStatus.BAD_REQUEST.value(),
+                "Range " + from + " to " + to + " does not end after it starts",
+                HttpStatus.BAD_REQUEST
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class OrderNotAwaitingPaymentException extends DomainException {
+
+    public OrderNotAwaitingPaymentException(String id) {
+        super(
+                "ORDER-NOT-AWAITING-PAYMENT-" + HttpStatus.CONFLICT.value(),
+                "Sales order with id " + id + " is not awaiting payment",
+                HttpStatus.CONFLICT
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class PasswordHashingSaturatedException extends DomainException {
+
+    public PasswordHashingSaturatedException() {
+        super(
+                "PASSWORD-HASHING-SATURATED-" + HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Too many password operations in progress, try again shortly",
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class PaymentAlreadyRegisteredException extends DomainException {
+
+    public PaymentAlreadyRegisteredException(String salesOrderId) {
+        super(
+                "PAYMENT-ALREADY-REGISTERED-" + HttpStatus.CONFLICT.value(),
+                "Sales order with id " + salesOrderId + " already has a payment",
+                HttpStatus.CONFLICT
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class PhoneAlreadyInUseException extends DomainException {
+
+    public PhoneAlreadyInUseException(Long phone) {
+        super(
+                "PARAM-CONFLICT-" + HttpStatus.CONFLICT.value(),
+                "Customer with phone " + phone + " already exists",
+                HttpStatus.CONFLICT
+        );
+    }
+}
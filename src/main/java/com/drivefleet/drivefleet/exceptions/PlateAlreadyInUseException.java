@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class PlateAlreadyInUseException extends DomainException {
+
+    public PlateAlreadyInUseException(String plate) {
+        super(
+                "PARAM-CONFLICT-" + HttpStatus.CONFLICT.value(),
+                "Vehicle with plate " + plate + " already exists",
+                HttpStatus.CONFLICT
+        );
+    }
+}
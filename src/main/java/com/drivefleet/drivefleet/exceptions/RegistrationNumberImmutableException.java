@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class RegistrationNumberImmutableException extends DomainException {
+
+    public RegistrationNumberImmutableException(Long registrationNumber) {
+        super(
+                "REGISTRATION-NUMBER-IMMUTABLE-" + HttpStatus.CONFLICT.value(),
+                "Registration number " + registrationNumber + " cannot be changed",
+                HttpStatus.CONFLICT
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class RegistrationNumbersExhaustedException extends DomainException {
+
+    public RegistrationNumbersExhaustedException(String sequenceName) {
+        super(
+                "REGISTRATION-NUMBERS-EXHAUSTED-" + HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "No registration numbers left in sequence " + sequenceName,
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class ReservationExpiredException extends DomainException {
+
+    public ReservationExpiredException(String vehicleId) {
+        super(
+                "RESERVATION-EXPIRED-" + HttpStatus.GONE.value(),
+                "Reservation for vehicle " + vehicleId + " has expired",
+                HttpStatus.GONE
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class SalesOrderNotFoundException extends DomainException {
+
+    public SalesOrderNotFoundException(String id) {
+        super(
+                "SALES-ORDER-NOT-FOUND-" + HttpStatus.NOT_FOUND.value(),
+                "Sales order with id " + id + " not found",
+                HttpStatus.NOT_FOUND
+        );
+    }
+}
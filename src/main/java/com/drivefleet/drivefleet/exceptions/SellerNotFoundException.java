@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class SellerNotFoundException extends DomainException {
+
+    public SellerNotFoundException(String id) {
+        super(
+                "SELLER-NOT-FOUND-" + HttpStatus.NOT_FOUND.value(),
+                "Seller with id " + id + " not found",
+                HttpStatus.NOT_FOUND
+        );
+    }
+}
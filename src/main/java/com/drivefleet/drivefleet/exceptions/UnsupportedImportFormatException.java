@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class UnsupportedImportFormatException extends DomainException {
+
+    public UnsupportedImportFormatException(String contentType) {
+        super(
+                "UNSUPPORTED-IMPORT-FORMAT-" + HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(),
+                "Content type " + contentType + " is not supported for imports, use application/x-ndjson or text/csv",
+                HttpStatus.UNSUPPORTED_MEDIA_TYPE
+        );
+    }
+}
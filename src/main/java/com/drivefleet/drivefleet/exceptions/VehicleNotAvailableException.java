@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class VehicleNotAvailableException extends DomainException {
+
+    public VehicleNotAvailableException(String id) {
+        super(
+                "VEHICLE-NOT-AVAILABLE-" + HttpStatus.CONFLICT.value(),
+                "Vehicle with id " + id + " is not available",
+                HttpStatus.CONFLICT
+        );
+    }
+}
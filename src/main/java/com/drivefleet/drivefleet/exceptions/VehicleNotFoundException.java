@@ -0,0 +1,14 @@
+package com.drivefleet.drivefleet.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class VehicleNotFoundException extends DomainException {
+
+    public VehicleNotFoundException(String id) {
+        super(
+                "VEHICLE-NOT-FOUND-" + HttpStatus.NOT_FOUND.value(),
+                "Vehicle with id " + id + " not found",
+                HttpStatus.NOT_FOUND
+        );
+    }
+}
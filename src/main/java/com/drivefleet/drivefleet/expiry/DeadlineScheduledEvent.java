@@ -0,0 +1,15 @@
+package com.drivefleet.drivefleet.expiry;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DeadlineScheduledEvent(ExpiryKey key, Instant deadline) {
+
+    public static DeadlineScheduledEvent vehicleReservation(UUID vehicleId, Instant deadline) {
+        return new DeadlineScheduledEvent(new ExpiryKey(ExpiryType.VEHICLE_RESERVATION, vehicleId), deadline);
+    }
+
+    public static DeadlineScheduledEvent orderPayment(UUID orderId, Instant deadline) {
+        return new DeadlineScheduledEvent(new ExpiryKey(ExpiryType.ORDER_PAYMENT, orderId), deadline);
+    }
+}
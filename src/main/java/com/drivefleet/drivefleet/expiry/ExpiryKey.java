@@ -0,0 +1,5 @@
+package com.drivefleet.drivefleet.expiry;
+
+import java.util.UUID;
+
+public record ExpiryKey(ExpiryType type, UUID id) {}
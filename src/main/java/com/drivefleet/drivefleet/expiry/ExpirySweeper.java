@@ -0,0 +1,191 @@
+package com.drivefleet.drivefleet.expiry;
+
+import com.drivefleet.drivefleet.analytics.OrderStatusChangedEvent;
+import com.drivefleet.drivefleet.config.ExpiryProperties;
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+import com.drivefleet.drivefleet.inventory.VehicleStatusChangedEvent;
+import com.drivefleet.drivefleet.repository.SalerOrderRepository;
+import com.drivefleet.drivefleet.repository.VehicleRepository;
+import com.drivefleet.drivefleet.repository.projection.OrderRollupRow;
+import com.drivefleet.drivefleet.repository.projection.PendingDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// Pending deadlines live in a timer wheel instead of being polled for one by one. The leader rebuilds
+// the wheel from the deadline indexes when it takes over, then only reads rows whose deadline lies beyond
+// what it has already seen; deadlines created on the leader are scheduled straight from their commit
+// events. Deadlines created on followers reach the leader only through that catch-up poll, so they are
+// picked up within catch-up-interval. A row committed so late that its deadline already sits below the
+// overlap window is missed by the poll and caught by the full rescan at the latest.
+// Released vehicles reach the other nodes' inventory indexes through their periodic resync.
+@Slf4j
+@Component
+public class ExpirySweeper {
+
+    private final VehicleRepository vehicleRepository;
+    private final SalerOrderRepository salesOrderRepository;
+    private final LeaderLease leaderLease;
+    private final ExpiryProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final HierarchicalTimerWheel<ExpiryKey> wheel;
+
+    private boolean leading;
+    private Instant vehicleWatermark = Instant.EPOCH;
+    private Instant orderWatermark = Instant.EPOCH;
+    private Instant nextCatchUp = Instant.EPOCH;
+    private Instant nextFullRescan = Instant.EPOCH;
+
+    public ExpirySweeper(VehicleRepository vehicleRepository,
+                         SalerOrderRepository salesOrderRepository,
+                         LeaderLease leaderLease,
+                         ExpiryProperties properties,
+                         ApplicationEventPublisher eventPublisher,
+                         PlatformTransactionManager transactionManager) {
+        this.vehicleRepository = vehicleRepository;
+        this.salesOrderRepository = salesOrderRepository;
+        this.leaderLease = leaderLease;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.wheel = new HierarchicalTimerWheel<>(properties.tick().toMillis(), properties.wheelSize(),
+                properties.levels(), System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onDeadlineScheduled(DeadlineScheduledEvent event) {
+        wheel.schedule(event.key(), event.deadline().toEpochMilli());
+    }
+
+    public synchronized int pending() {
+        return wheel.size();
+    }
+
+    @Scheduled(fixedDelayString = "${drivefleet.expiry.tick:1s}")
+    public void sweep() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            if (!leaderLease.tryAcquire()) {
+                // Followers keep their wheel turning so locally scheduled deadlines don't pile up;
+                // the leader releases them
+                leading = false;
+                synchronized (this) {
+                    wheel.advance(now.toEpochMilli());
+                }
+                return;
+            }
+            if (!leading) {
+                rescan(now);
+                leading = true;
+                log.info("Took over expiry sweeping with {} pending deadlines", pending());
+            } else if (!now.isBefore(nextFullRescan)) {
+                rescan(now);
+            } else if (!now.isBefore(nextCatchUp)) {
+                catchUp(now);
+            }
+            releaseDue(now);
+        } catch (RuntimeException ex) {
+            log.warn("Expiry sweep failed, retrying on the next tick", ex);
+        }
+    }
+
+    void rescan(Instant now) {
+        vehicleWatermark = Instant.EPOCH;
+        orderWatermark = Instant.EPOCH;
+        catchUp(now);
+        nextFullRescan = now.plus(properties.fullRescanInterval());
+    }
+
+    void catchUp(Instant now) {
+        List<PendingDeadline> vehicles = vehicleRepository.findReservationDeadlinesAfter(
+                overlap(vehicleWatermark));
+        List<PendingDeadline> orders = salesOrderRepository.findPaymentDeadlinesAfter(
+                overlap(orderWatermark));
+        vehicleWatermark = schedule(ExpiryType.VEHICLE_RESERVATION, vehicles, vehicleWatermark);
+        orderWatermark = schedule(ExpiryType.ORDER_PAYMENT, orders, orderWatermark);
+        nextCatchUp = now.plus(properties.catchUpInterval());
+    }
+
+    // Re-reading a window below the watermark picks up rows whose transactions committed out of
+    // deadline order; scheduling the same deadline twice is harmless.
+    private Instant overlap(Instant watermark) {
+        return Instant.EPOCH.equals(watermark) ? watermark : watermark.minus(properties.catchUpOverlap());
+    }
+
+    private synchronized Instant schedule(ExpiryType type, List<PendingDeadline> deadlines, Instant watermark) {
+        Instant latest = watermark;
+        for (PendingDeadline deadline : deadlines) {
+            wheel.schedule(new ExpiryKey(type, deadline.getId()), deadline.getDeadline().toEpochMilli());
+            if (deadline.getDeadline().isAfter(latest)) {
+                latest = deadline.getDeadline();
+            }
+        }
+        return latest;
+    }
+
+    void releaseDue(Instant now) {
+        List<ExpiryKey> due;
+        synchronized (this) {
+            due = wheel.advance(now.toEpochMilli());
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<ExpiryType, List<UUID>> byType = Map.of(
+                ExpiryType.VEHICLE_RESERVATION, new ArrayList<>(),
+                ExpiryType.ORDER_PAYMENT, new ArrayList<>());
+        due.forEach(key -> byType.get(key.type()).add(key.id()));
+
+        inBatches(ExpiryType.ORDER_PAYMENT, byType, now, batch -> transactionTemplate.executeWithoutResult(status -> {
+            List<OrderRollupRow> expired = salesOrderRepository.lockExpiredPayments(batch, now);
+            if (!expired.isEmpty()) {
+                salesOrderRepository.cancelExpired(expired.stream().map(OrderRollupRow::getId).toList(), now);
+                expired.forEach(order -> eventPublisher.publishEvent(OrderStatusChangedEvent.canceled(
+                        order.getId(), order.getSellerId(), order.getCreationDate(), order.getTotalValue())));
+            }
+        }));
+        inBatches(ExpiryType.VEHICLE_RESERVATION, byType, now, batch -> transactionTemplate.executeWithoutResult(status -> {
+            // The row re-check skips reservations renewed, confirmed or released since they were scheduled
+            List<UUID> expired = vehicleRepository.lockExpiredReservations(batch, now);
+            if (!expired.isEmpty()) {
+                vehicleRepository.releaseAll(expired);
+                expired.forEach(id -> eventPublisher.publishEvent(
+                        new VehicleStatusChangedEvent(id, VehicleStatus.AVAILABLE)));
+            }
+        }));
+    }
+
+    private void inBatches(ExpiryType type, Map<ExpiryType, List<UUID>> byType, Instant now,
+                           Consumer<List<UUID>> action) {
+        List<UUID> ids = byType.get(type);
+        for (int from = 0; from < ids.size(); from += properties.batchSize()) {
+            List<UUID> batch = ids.subList(from, Math.min(from + properties.batchSize(), ids.size()));
+            try {
+                action.accept(batch);
+            } catch (RuntimeException ex) {
+                log.warn("Releasing {} expired {} entries failed, retrying on the next tick", batch.size(), type, ex);
+                synchronized (this) {
+                    batch.forEach(id -> wheel.schedule(new ExpiryKey(type, id), now.toEpochMilli()));
+                }
+            }
+        }
+    }
+}
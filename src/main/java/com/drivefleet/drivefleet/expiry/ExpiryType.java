@@ -0,0 +1,6 @@
+package com.drivefleet.drivefleet.expiry;
+
+public enum ExpiryType {
+    VEHICLE_RESERVATION,
+    ORDER_PAYMENT
+}
@@ -0,0 +1,119 @@
+package com.drivefleet.drivefleet.expiry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Level L has wheelSize slots, each spanning wheelSize^L ticks. An entry sits in the lowest level
+// whose range covers it and moves down a level each time its slot comes round, so scheduling and
+// firing are O(1) regardless of how many deadlines are pending. Not thread-safe.
+public class HierarchicalTimerWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] spans;
+    private final List<List<Entry<K>>> slots;
+    private final Map<K, Long> deadlines = new HashMap<>();
+    private long currentTick;
+
+    public HierarchicalTimerWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levels];
+        this.slots = new ArrayList<>(levels * wheelSize);
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new ArrayList<>());
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    // Rescheduling a key supersedes its previous deadline; stale entries are dropped when they come due.
+    public void schedule(K key, long deadlineMillis) {
+        deadlines.put(key, deadlineMillis);
+        // Already due: fire on the next tick rather than being lost in a slot behind the cursor
+        place(new Entry<>(key, deadlineMillis, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis)),
+                currentTick + 1);
+    }
+
+    public void cancel(K key) {
+        deadlines.remove(key);
+    }
+
+    public List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    cascade(level);
+                }
+            }
+            drain(slot(0, currentTick), expired);
+        }
+        return expired;
+    }
+
+    private void place(Entry<K> entry, long dueTick) {
+        long delta = entry.tick - currentTick;
+        if (delta <= 0) {
+            slot(0, dueTick).add(entry);
+            return;
+        }
+        int level = 0;
+        while (level < spans.length - 1 && delta >= spans[level + 1]) {
+            level++;
+        }
+        slot(level, entry.tick).add(entry);
+    }
+
+    private void cascade(int level) {
+        List<Entry<K>> bucket = slot(level, currentTick);
+        List<Entry<K>> pending = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Entry<K> entry : pending) {
+            if (isCurrent(entry)) {
+                // Due now when the deadline sits on this level's boundary; level 0 is drained right after
+                place(entry, currentTick);
+            }
+        }
+    }
+
+    private void drain(List<Entry<K>> bucket, List<K> expired) {
+        List<Entry<K>> pending = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Entry<K> entry : pending) {
+            if (!isCurrent(entry)) {
+                continue;
+            }
+            if (entry.tick <= currentTick) {
+                deadlines.remove(entry.key);
+                expired.add(entry.key);
+            } else {
+                place(entry, currentTick + 1);
+            }
+        }
+    }
+
+    private boolean isCurrent(Entry<K> entry) {
+        Long deadline = deadlines.get(entry.key);
+        return deadline != null && deadline == entry.deadlineMillis;
+    }
+
+    private List<Entry<K>> slot(int level, long tick) {
+        int index = (int) Math.floorMod(tick / spans[level], (long) wheelSize);
+        return slots.get(level * wheelSize + index);
+    }
+
+    private record Entry<K>(K key, long deadlineMillis, long tick) {}
+}
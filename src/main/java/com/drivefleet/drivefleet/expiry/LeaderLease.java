@@ -0,0 +1,79 @@
+package com.drivefleet.drivefleet.expiry;
+
+import com.drivefleet.drivefleet.config.ExpiryProperties;
+import com.drivefleet.drivefleet.domain.entities.SchedulerLease;
+import com.drivefleet.drivefleet.repository.SchedulerLeaseRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+// A node leads while it holds an unexpired row in TB_SCHEDULER_LEASE. It renews at half-life, so a
+// healthy leader writes that row every leaseDuration / 2 and a crashed one is replaced within leaseDuration.
+@Component
+public class LeaderLease {
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final ExpiryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Instant heldUntil = Instant.EPOCH;
+
+    public LeaderLease(SchedulerLeaseRepository leaseRepository,
+                       ExpiryProperties properties,
+                       PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean tryAcquire() {
+        // A lock rather than synchronized: the JDBC round-trip below would pin a virtual thread's carrier
+        lock.lock();
+        try {
+            return acquire();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean acquire() {
+        Instant now = Instant.now();
+        if (now.isBefore(heldUntil.minus(properties.leaseDuration().dividedBy(2)))) {
+            return true;
+        }
+
+        Instant until = now.plus(properties.leaseDuration());
+        boolean acquired;
+        try {
+            acquired = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (leaseRepository.acquire(properties.leaseName(), owner, until, now) == 1) {
+                    return true;
+                }
+                if (leaseRepository.existsById(properties.leaseName())) {
+                    return false;
+                }
+                leaseRepository.saveAndFlush(SchedulerLease.builder()
+                        .name(properties.leaseName())
+                        .owner(owner)
+                        .expiresAt(until)
+                        .build());
+                return true;
+            }));
+        } catch (DataIntegrityViolationException ex) {
+            // Another node created the lease row first
+            acquired = false;
+        }
+
+        heldUntil = acquired ? until : Instant.EPOCH;
+        return acquired;
+    }
+}
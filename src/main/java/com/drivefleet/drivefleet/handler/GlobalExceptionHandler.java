@@ -3,10 +3,15 @@ package com.drivefleet.drivefleet.handler;
 import com.drivefleet.drivefleet.exceptions.DomainException;
 import com.drivefleet.drivefleet.exceptions.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLTransientConnectionException;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -26,4 +31,37 @@ public class GlobalExceptionHandler {
                 .status(ex.getStatus())
                 .body(response);
     }
-}
\ No newline at end of file
+
+    // Hikari raises SQLTransientConnectionException when no pooled connection frees up within its
+    // connection timeout; any other cause is left to the default handling
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleConnectionPoolExhausted(CannotCreateTransactionException ex,
+                                                                       HttpServletRequest request) {
+        if (!isConnectionTimeout(ex)) {
+            throw ex;
+        }
+
+        ErrorResponse response = new ErrorResponse(
+                "https://drivefleet/errors/DATABASE-UNAVAILABLE-" + HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Database connections are exhausted",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "No database connection became available in time, retry shortly",
+                request.getRequestURI(),
+                java.time.Instant.now()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    private static boolean isConnectionTimeout(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package com.drivefleet.drivefleet.inventory;
+
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record VehicleDocument(
+        UUID id,
+        String brand,
+        String model,
+        Integer yearManufacture,
+        Integer yearModel,
+        String color,
+        BigDecimal mileage,
+        BigDecimal price,
+        VehicleStatus status,
+        Long version
+) {
+
+    public static VehicleDocument from(Vehicle vehicle) {
+        return new VehicleDocument(
+                vehicle.getId(),
+                vehicle.getBrand(),
+                vehicle.getModel(),
+                vehicle.getYearManufacture(),
+                vehicle.getYearModel(),
+                vehicle.getColor(),
+                vehicle.getMileage(),
+                vehicle.getPrice(),
+                vehicle.getStatus(),
+                vehicle.getVersion()
+        );
+    }
+}
@@ -0,0 +1,388 @@
+package com.drivefleet.drivefleet.inventory;
+
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSearchRequest;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSearchResponse;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSummaryResponse;
+import com.drivefleet.drivefleet.domain.enums.VehicleSortField;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+// Every vehicle owns a slot; numeric attributes live in primitive arrays indexed by slot and every
+// facet value owns a BitSet of the slots carrying it, so filters are word-wide ANDs/ORs.
+public class VehicleInventoryIndex {
+
+    public static final String BRAND = "brand";
+    public static final String MODEL = "model";
+    public static final String COLOR = "color";
+    public static final String STATUS = "status";
+
+    private static final int BRAND_FACET = 0;
+    private static final int MODEL_FACET = 1;
+    private static final int COLOR_FACET = 2;
+    private static final int STATUS_FACET = 3;
+    private static final String[] FACET_NAMES = {BRAND, MODEL, COLOR, STATUS};
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slotsById = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final BitSet freeSlots = new BitSet();
+    private final Facet[] facets = {new Facet(), new Facet(), new Facet(), new Facet()};
+    private final Set<UUID> seenBySync = new HashSet<>();
+    private final Set<UUID> upsertedDuringSync = new HashSet<>();
+    private final Set<UUID> removedDuringSync = new HashSet<>();
+
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private int[] yearManufactures = new int[INITIAL_CAPACITY];
+    private int[] yearModels = new int[INITIAL_CAPACITY];
+    private long[] mileageCents = new long[INITIAL_CAPACITY];
+    private long[] priceCents = new long[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private int[][] ordinals = new int[FACET_NAMES.length][INITIAL_CAPACITY];
+    private int highWaterMark;
+    private boolean syncing;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void upsert(VehicleDocument document) {
+        lock.writeLock().lock();
+        try {
+            if (syncing) {
+                upsertedDuringSync.add(document.id());
+                removedDuringSync.remove(document.id());
+            }
+            if (isNewer(document)) {
+                write(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            if (syncing) {
+                removedDuringSync.add(id);
+                upsertedDuringSync.remove(id);
+            }
+            Integer slot = slotsById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            for (int facet = 0; facet < facets.length; facet++) {
+                facets[facet].postings.get(ordinals[facet][slot]).clear(slot);
+            }
+            live.clear(slot);
+            freeSlots.set(slot);
+            ids[slot] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // A sync walks a fresh snapshot of the table while write events keep arriving. Versions decide
+    // between a snapshot row and an indexed vehicle, and vehicles deleted meanwhile are not resurrected.
+    public void beginSync() {
+        lock.writeLock().lock();
+        try {
+            syncing = true;
+            seenBySync.clear();
+            upsertedDuringSync.clear();
+            removedDuringSync.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void applySnapshot(Collection<VehicleDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (VehicleDocument document : documents) {
+                seenBySync.add(document.id());
+                if (!removedDuringSync.contains(document.id()) && isNewer(document)) {
+                    write(document);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Vehicles missing from the snapshot were deleted elsewhere, unless a write event added them
+    // after their page was read. Returns how many were dropped.
+    public int endSync() {
+        lock.writeLock().lock();
+        try {
+            List<UUID> gone = new ArrayList<>();
+            for (UUID id : slotsById.keySet()) {
+                if (!seenBySync.contains(id) && !upsertedDuringSync.contains(id)) {
+                    gone.add(id);
+                }
+            }
+            syncing = false;
+            gone.forEach(this::remove);
+            clearSync();
+            ready = true;
+            return gone.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortSync() {
+        lock.writeLock().lock();
+        try {
+            syncing = false;
+            clearSync();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public VehicleSearchResponse search(VehicleSearchRequest request) {
+        lock.readLock().lock();
+        try {
+            BitSet[] facetFilters = {
+                    facets[BRAND_FACET].union(request.brands()),
+                    facets[MODEL_FACET].union(request.models()),
+                    facets[COLOR_FACET].union(request.colors()),
+                    facets[STATUS_FACET].union(request.statuses().stream().map(Enum::name).toList())
+            };
+            BitSet inRange = rangeMatches(request);
+
+            BitSet matches = (BitSet) inRange.clone();
+            for (BitSet filter : facetFilters) {
+                if (filter != null) {
+                    matches.and(filter);
+                }
+            }
+
+            return VehicleSearchResponse.builder()
+                    .items(page(matches, request))
+                    .total(matches.cardinality())
+                    .facets(countFacets(inRange, facetFilters))
+                    .fromIndex(true)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isNewer(VehicleDocument document) {
+        Integer slot = slotsById.get(document.id());
+        return slot == null || document.version() == null || document.version() >= versions[slot];
+    }
+
+    private void clearSync() {
+        seenBySync.clear();
+        upsertedDuringSync.clear();
+        removedDuringSync.clear();
+    }
+
+    private void write(VehicleDocument document) {
+        Integer slot = slotsById.get(document.id());
+        if (slot == null) {
+            slot = allocateSlot();
+            slotsById.put(document.id(), slot);
+            ids[slot] = document.id();
+            live.set(slot);
+        }
+        yearManufactures[slot] = document.yearManufacture();
+        yearModels[slot] = document.yearModel();
+        mileageCents[slot] = toCents(document.mileage(), RoundingMode.HALF_UP);
+        priceCents[slot] = toCents(document.price(), RoundingMode.HALF_UP);
+        versions[slot] = document.version() == null ? 0 : document.version();
+        assign(BRAND_FACET, slot, document.brand());
+        assign(MODEL_FACET, slot, document.model());
+        assign(COLOR_FACET, slot, document.color());
+        assign(STATUS_FACET, slot, document.status().name());
+    }
+
+    private void assign(int facet, int slot, String value) {
+        Facet target = facets[facet];
+        if (ordinals[facet][slot] < target.postings.size()) {
+            target.postings.get(ordinals[facet][slot]).clear(slot);
+        }
+        int ordinal = target.ordinal(value);
+        target.postings.get(ordinal).set(slot);
+        ordinals[facet][slot] = ordinal;
+    }
+
+    private int allocateSlot() {
+        int free = freeSlots.nextSetBit(0);
+        if (free >= 0) {
+            freeSlots.clear(free);
+            return free;
+        }
+        if (highWaterMark == ids.length) {
+            grow(ids.length * 2);
+        }
+        return highWaterMark++;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        yearManufactures = Arrays.copyOf(yearManufactures, capacity);
+        yearModels = Arrays.copyOf(yearModels, capacity);
+        mileageCents = Arrays.copyOf(mileageCents, capacity);
+        priceCents = Arrays.copyOf(priceCents, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        for (int facet = 0; facet < ordinals.length; facet++) {
+            ordinals[facet] = Arrays.copyOf(ordinals[facet], capacity);
+        }
+    }
+
+    private BitSet rangeMatches(VehicleSearchRequest request) {
+        int minYear = request.minYearModel() == null ? Integer.MIN_VALUE : request.minYearModel();
+        int maxYear = request.maxYearModel() == null ? Integer.MAX_VALUE : request.maxYearModel();
+        long minPrice = request.minPrice() == null ? Long.MIN_VALUE : toCents(request.minPrice(), RoundingMode.CEILING);
+        long maxPrice = request.maxPrice() == null ? Long.MAX_VALUE : toCents(request.maxPrice(), RoundingMode.FLOOR);
+        long minMileage = request.minMileage() == null ? Long.MIN_VALUE : toCents(request.minMileage(), RoundingMode.CEILING);
+        long maxMileage = request.maxMileage() == null ? Long.MAX_VALUE : toCents(request.maxMileage(), RoundingMode.FLOOR);
+
+        BitSet result = (BitSet) live.clone();
+        if (request.minYearModel() == null && request.maxYearModel() == null
+                && request.minPrice() == null && request.maxPrice() == null
+                && request.minMileage() == null && request.maxMileage() == null) {
+            return result;
+        }
+        for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+            if (yearModels[slot] < minYear || yearModels[slot] > maxYear
+                    || priceCents[slot] < minPrice || priceCents[slot] > maxPrice
+                    || mileageCents[slot] < minMileage || mileageCents[slot] > maxMileage) {
+                result.clear(slot);
+            }
+        }
+        return result;
+    }
+
+    // Each facet is counted against every filter except its own, so selecting a brand still shows
+    // how many vehicles the other brands would add.
+    private Map<String, Map<String, Long>> countFacets(BitSet inRange, BitSet[] facetFilters) {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        for (int facet = 0; facet < facets.length; facet++) {
+            BitSet base = (BitSet) inRange.clone();
+            for (int other = 0; other < facetFilters.length; other++) {
+                if (other != facet && facetFilters[other] != null) {
+                    base.and(facetFilters[other]);
+                }
+            }
+
+            Map<String, Long> counts = new LinkedHashMap<>();
+            Facet target = facets[facet];
+            for (int ordinal = 0; ordinal < target.values.size(); ordinal++) {
+                BitSet posting = (BitSet) target.postings.get(ordinal).clone();
+                posting.and(base);
+                int count = posting.cardinality();
+                if (count > 0) {
+                    counts.put(target.values.get(ordinal), (long) count);
+                }
+            }
+            result.put(FACET_NAMES[facet], counts);
+        }
+        return result;
+    }
+
+    private List<VehicleSummaryResponse> page(BitSet matches, VehicleSearchRequest request) {
+        int[] slots = matches.stream().toArray();
+        long offset = (long) request.page() * request.size();
+        if (offset >= slots.length) {
+            return List.of();
+        }
+
+        VehicleSortField sort = request.sort();
+        int direction = request.descending() ? -1 : 1;
+
+        return Arrays.stream(slots)
+                .boxed()
+                .sorted((left, right) -> {
+                    int byKey = direction * Long.compare(sortKey(sort, left), sortKey(sort, right));
+                    return byKey != 0 ? byKey : ids[left].compareTo(ids[right]);
+                })
+                .skip(offset)
+                .limit(request.size())
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+    }
+
+    private long sortKey(VehicleSortField sort, int slot) {
+        return switch (sort) {
+            case PRICE -> priceCents[slot];
+            case MILEAGE -> mileageCents[slot];
+            case YEAR_MODEL -> yearModels[slot];
+        };
+    }
+
+    private VehicleSummaryResponse convertToResponse(int slot) {
+        return VehicleSummaryResponse.builder()
+                .id(ids[slot])
+                .brand(facets[BRAND_FACET].values.get(ordinals[BRAND_FACET][slot]))
+                .model(facets[MODEL_FACET].values.get(ordinals[MODEL_FACET][slot]))
+                .yearManufacture(yearManufactures[slot])
+                .yearModel(yearModels[slot])
+                .price(BigDecimal.valueOf(priceCents[slot], 2))
+                .build();
+    }
+
+    private static long toCents(BigDecimal value, RoundingMode roundingMode) {
+        return value.movePointRight(2).setScale(0, roundingMode).longValueExact();
+    }
+
+    private static final class Facet {
+
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> ordinalsByValue = new HashMap<>();
+        private final List<BitSet> postings = new ArrayList<>();
+
+        private int ordinal(String value) {
+            return ordinalsByValue.computeIfAbsent(value, key -> {
+                values.add(key);
+                postings.add(new BitSet());
+                return values.size() - 1;
+            });
+        }
+
+        // null means "no filter on this facet"; an empty BitSet means nothing can match.
+        private BitSet union(Collection<String> selected) {
+            if (selected.isEmpty()) {
+                return null;
+            }
+            BitSet result = new BitSet();
+            for (String value : selected) {
+                Integer ordinal = ordinalsByValue.get(value);
+                if (ordinal != null) {
+                    result.or(postings.get(ordinal));
+                }
+            }
+            return result;
+        }
+    }
+}
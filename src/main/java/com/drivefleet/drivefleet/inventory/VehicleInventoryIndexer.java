@@ -0,0 +1,162 @@
+package com.drivefleet.drivefleet.inventory;
+
+import com.drivefleet.drivefleet.config.VehicleInventoryProperties;
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.repository.VehicleRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+// Keeps the index in step with the database: entity writes arrive through Hibernate's post-commit
+// events, so rolled-back changes never reach the index. Bulk status updates are re-read after commit,
+// and a periodic resync picks up what other nodes wrote.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VehicleInventoryIndexer implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final VehicleRepository vehicleRepository;
+    private final VehicleInventoryProperties properties;
+    private final VehicleInventoryIndex index = new VehicleInventoryIndex();
+
+    public VehicleInventoryIndex index() {
+        return index;
+    }
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startLoading() {
+        if (!properties.indexEnabled()) {
+            log.info("Vehicle inventory index disabled, searches will use the database");
+            return;
+        }
+        Thread.ofPlatform()
+                .name("vehicle-index-loader")
+                .daemon(true)
+                .start(this::load);
+    }
+
+    void load() {
+        long started = System.nanoTime();
+        try {
+            synchronize();
+            log.info("Vehicle inventory index loaded {} vehicles in {} ms",
+                    index.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.error("Vehicle inventory index load failed, searches will keep using the database", ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${drivefleet.vehicles.inventory.resync-interval:1m}",
+            initialDelayString = "${drivefleet.vehicles.inventory.resync-interval:1m}")
+    public void resync() {
+        if (!index.isReady()) {
+            return;
+        }
+        try {
+            int removed = synchronize();
+            log.debug("Vehicle inventory index resynced, {} vehicles indexed, {} removed", index.size(), removed);
+        } catch (RuntimeException ex) {
+            log.warn("Vehicle inventory resync failed, the index keeps its current contents", ex);
+        }
+    }
+
+    private int synchronize() {
+        index.beginSync();
+        try {
+            UUID after = null;
+            List<VehicleDocument> batch;
+            do {
+                batch = vehicleRepository.findDocuments(after, Limit.of(properties.loadBatchSize()));
+                index.applySnapshot(batch);
+                if (!batch.isEmpty()) {
+                    after = batch.getLast().id();
+                }
+            } while (batch.size() == properties.loadBatchSize());
+            return index.endSync();
+        } catch (RuntimeException ex) {
+            index.abortSync();
+            throw ex;
+        }
+    }
+
+    // Status changes are bulk UPDATEs that bypass Hibernate's events, so the committed row is read back
+    // with its version; an older snapshot page can then never overwrite it.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(VehicleStatusChangedEvent event) {
+        if (!properties.indexEnabled()) {
+            return;
+        }
+        vehicleRepository.findDocumentById(event.vehicleId())
+                .ifPresentOrElse(index::upsert, () -> index.remove(event.vehicleId()));
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Vehicle vehicle) {
+            index.upsert(VehicleDocument.from(vehicle));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Vehicle vehicle) {
+            index.upsert(VehicleDocument.from(vehicle));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Vehicle) {
+            index.remove((UUID) event.getId());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Vehicle.class.equals(persister.getMappedClass());
+    }
+}
@@ -0,0 +1,9 @@
+package com.drivefleet.drivefleet.inventory;
+
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+
+import java.util.UUID;
+
+// Published by code paths that change a vehicle's status through bulk or conditional UPDATEs, which
+// bypass the entity write events the indexer listens to.
+public record VehicleStatusChangedEvent(UUID vehicleId, VehicleStatus status) {}
@@ -0,0 +1,58 @@
+package com.drivefleet.drivefleet.monitoring;
+
+import com.drivefleet.drivefleet.config.DataSourcePoolProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+// Stays UP while saturated: a full pool still serves requests, it just makes them wait. The flag is
+// there so dashboards and alerts see exhaustion coming before connection timeouts turn into 503s.
+@Component("connectionPool")
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    private final DataSource dataSource;
+    private final DataSourcePoolProperties properties;
+
+    public ConnectionPoolHealthIndicator(DataSource dataSource, DataSourcePoolProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+    }
+
+    @Override
+    public Health health() {
+        HikariDataSource hikari = unwrap();
+        if (hikari == null || hikari.getHikariPoolMXBean() == null) {
+            return Health.unknown().withDetail("reason", "No started Hikari pool").build();
+        }
+
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int active = pool.getActiveConnections();
+        int pending = pool.getThreadsAwaitingConnection();
+        int maximum = hikari.getMaximumPoolSize();
+        double utilization = maximum == 0 ? 0.0 : (double) active / maximum;
+
+        return Health.up()
+                .withDetail("pool", hikari.getPoolName())
+                .withDetail("active", active)
+                .withDetail("idle", pool.getIdleConnections())
+                .withDetail("pending", pending)
+                .withDetail("total", pool.getTotalConnections())
+                .withDetail("maximum", maximum)
+                .withDetail("utilization", Math.round(utilization * 100) / 100.0)
+                .withDetail("saturated", pending > 0 || utilization >= properties.saturationThreshold())
+                .build();
+    }
+
+    private HikariDataSource unwrap() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.drivefleet.drivefleet.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+// Reads Hibernate's own counters at scrape time; they only move while generate_statistics is on.
+@Component
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "hibernate.statements.prepared", Statistics::getPrepareStatementCount);
+        counter(registry, "hibernate.queries.executed", Statistics::getQueryExecutionCount);
+        counter(registry, "hibernate.entities.loaded", Statistics::getEntityLoadCount);
+        counter(registry, "hibernate.entities.fetched", Statistics::getEntityFetchCount);
+        counter(registry, "hibernate.collections.loaded", Statistics::getCollectionLoadCount);
+        counter(registry, "hibernate.optimistic.failures", Statistics::getOptimisticFailureCount);
+        cacheCounters(registry, "hibernate.second.level.cache.requests",
+                Statistics::getSecondLevelCacheHitCount, Statistics::getSecondLevelCacheMissCount);
+        cacheCounters(registry, "hibernate.natural.id.cache.requests",
+                Statistics::getNaturalIdCacheHitCount, Statistics::getNaturalIdCacheMissCount);
+        cacheCounters(registry, "hibernate.query.cache.requests",
+                Statistics::getQueryCacheHitCount, Statistics::getQueryCacheMissCount);
+    }
+
+    private void counter(MeterRegistry registry, String name, ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value).register(registry);
+    }
+
+    private void cacheCounters(MeterRegistry registry, String name,
+                               ToDoubleFunction<Statistics> hits, ToDoubleFunction<Statistics> misses) {
+        FunctionCounter.builder(name, statistics, hits).tag("result", "hit").register(registry);
+        FunctionCounter.builder(name, statistics, misses).tag("result", "miss").register(registry);
+    }
+}
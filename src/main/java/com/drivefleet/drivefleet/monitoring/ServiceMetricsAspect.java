@@ -0,0 +1,67 @@
+package com.drivefleet.drivefleet.monitoring;
+
+import com.drivefleet.drivefleet.exceptions.DomainException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+// Times every public call into a @Service, tagged with the caller's role and, on failure, the domain
+// error code, so a spike in SELLER-NOT-FOUND-404 is told apart from a slow query.
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.drivefleet.drivefleet.service..*(..)) "
+            + "&& @within(org.springframework.stereotype.Service)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        String code = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (DomainException ex) {
+            outcome = "ERROR";
+            code = ex.getCode();
+            throw ex;
+        } catch (Throwable ex) {
+            outcome = "ERROR";
+            code = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder("drivefleet.service.calls")
+                    .description("Latency of service methods")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("role", currentRole())
+                    .tag("outcome", outcome)
+                    .tag("code", code)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return "anonymous";
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority != null && authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .findFirst()
+                .orElse("none");
+    }
+}
@@ -1,16 +1,26 @@
 package com.drivefleet.drivefleet.repository;
 
 import com.drivefleet.drivefleet.domain.entities.Customer;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, UUID> {
-    Optional<Customer> findByCpf(Long cpf);
+public interface CustomerRepository extends NaturalIdRepository<Customer, UUID> {
+    default Optional<Customer> findByCpf(Long cpf) {
+        return findBySimpleNaturalId(cpf);
+    }
+
     Optional<Customer> findByPhone(Long phone);
-    boolean existsByCpf(Long cpf);
-    boolean existsByPhone(Long phone);
+
+    @Query("SELECT c.cpf FROM Customer c WHERE c.cpf IN :cpfs")
+    List<Long> findExistingCpfs(@Param("cpfs") Collection<Long> cpfs);
+
+    @Query("SELECT c.phone FROM Customer c WHERE c.phone IN :phones")
+    List<Long> findExistingPhones(@Param("phones") Collection<Long> phones);
 }
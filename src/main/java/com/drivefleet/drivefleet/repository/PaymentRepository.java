@@ -1,11 +1,36 @@
 package com.drivefleet.drivefleet.repository;
 
 import com.drivefleet.drivefleet.domain.entities.Payment;
+import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
+import com.drivefleet.drivefleet.domain.enums.PaymentStatus;
+import com.drivefleet.drivefleet.repository.projection.PaymentState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, UUID> {
+
+    @Query("SELECT p.id AS id, p.status AS status FROM Payment p WHERE p.salesOrder.id = :salesOrderId")
+    Optional<PaymentState> findStateBySalesOrderId(@Param("salesOrderId") UUID salesOrderId);
+
+    // An attempt that was not approved keeps the order's single payment row; the next attempt takes it over
+    @Modifying
+    @Query("""
+            UPDATE Payment p
+            SET p.paymentDate = :paymentDate, p.price = :price, p.method = :method, p.status = :status
+            WHERE p.id = :id AND p.status <> com.drivefleet.drivefleet.domain.enums.PaymentStatus.APPROVED
+            """)
+    int replaceDeclined(@Param("id") UUID id,
+                        @Param("paymentDate") LocalDate paymentDate,
+                        @Param("price") BigDecimal price,
+                        @Param("method") PaymentMethod method,
+                        @Param("status") PaymentStatus status);
 }
@@ -2,9 +2,25 @@ package com.drivefleet.drivefleet.repository;
 
 import com.drivefleet.drivefleet.domain.entities.SalesOrder;
 import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.repository.projection.OrderRollupRow;
+import com.drivefleet.drivefleet.repository.projection.PaymentTarget;
+import com.drivefleet.drivefleet.repository.projection.PendingDeadline;
+import com.drivefleet.drivefleet.repository.projection.RollupTotal;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +28,106 @@ import java.util.UUID;
 public interface SalerOrderRepository extends JpaRepository<SalesOrder, UUID> {
     Optional<SalesOrder> findByVehicle(Vehicle vehicle);
     boolean existsByVehicle(Vehicle vehicle);
+    boolean existsBySellerId(UUID sellerId);
+
+    // Ranks each seller's orders in one pass over IDX_SALES_ORDER_SELLER_CREATION instead of counting newer
+    // orders once per row
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            SELECT o FROM SalesOrder o
+            JOIN FETCH o.customer c
+            JOIN FETCH c.user
+            LEFT JOIN FETCH o.vehicle
+            LEFT JOIN FETCH o.payment
+            WHERE o.id IN (
+                SELECT ranked.id FROM (
+                    SELECT r.id AS id,
+                           ROW_NUMBER() OVER (PARTITION BY r.seller.id
+                                              ORDER BY r.creationDate DESC, r.id DESC) AS recency
+                    FROM SalesOrder r
+                    WHERE r.seller.id IN :sellerIds
+                ) ranked
+                WHERE ranked.recency <= :perSeller
+            )
+            ORDER BY o.seller.id, o.creationDate DESC, o.id DESC
+            """)
+    List<SalesOrder> findRecentBySellerIds(@Param("sellerIds") Collection<UUID> sellerIds,
+                                           @Param("perSeller") long perSeller);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            SELECT o FROM SalesOrder o
+            JOIN FETCH o.customer c
+            JOIN FETCH c.user
+            LEFT JOIN FETCH o.vehicle
+            LEFT JOIN FETCH o.payment
+            WHERE o.seller.id = :sellerId
+            ORDER BY o.creationDate DESC, o.id DESC
+            """)
+    List<SalesOrder> findAllBySellerId(@Param("sellerId") UUID sellerId);
+
+    @Query("""
+            SELECT o.id AS id, o.paymentDeadline AS deadline
+            FROM SalesOrder o
+            WHERE o.status = com.drivefleet.drivefleet.domain.enums.OrderStatus.AWAITING_PAYMENT
+              AND o.paymentDeadline > :after
+            """)
+    List<PendingDeadline> findPaymentDeadlinesAfter(@Param("after") Instant after);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT o.id AS id, o.seller.id AS sellerId, o.creationDate AS creationDate, o.totalValue AS totalValue
+            FROM SalesOrder o
+            WHERE o.id IN :ids
+              AND o.status = com.drivefleet.drivefleet.domain.enums.OrderStatus.AWAITING_PAYMENT
+              AND o.paymentDeadline < :now
+            """)
+    List<OrderRollupRow> lockExpiredPayments(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+    // Cancelled orders give up their vehicle so the unique vehicle_id slot is free for the next buyer
+    @Modifying
+    @Query("""
+            UPDATE SalesOrder o
+            SET o.status = com.drivefleet.drivefleet.domain.enums.OrderStatus.CANCELED, o.vehicle = NULL
+            WHERE o.id IN :ids
+              AND o.status = com.drivefleet.drivefleet.domain.enums.OrderStatus.AWAITING_PAYMENT
+              AND o.paymentDeadline < :now
+            """)
+    int cancelExpired(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+    @Query("""
+            SELECT o.status AS status, o.seller.id AS sellerId, o.creationDate AS creationDate,
+                   o.totalValue AS totalValue, v.id AS vehicleId, v.reservationToken AS reservationToken
+            FROM SalesOrder o
+            LEFT JOIN o.vehicle v
+            WHERE o.id = :id
+            """)
+    Optional<PaymentTarget> findPaymentTarget(@Param("id") UUID id);
+
+    @Modifying
+    @Query("""
+            UPDATE SalesOrder o
+            SET o.status = com.drivefleet.drivefleet.domain.enums.OrderStatus.FINALIZED, o.conclusionDate = :today
+            WHERE o.id = :id
+              AND o.status = com.drivefleet.drivefleet.domain.enums.OrderStatus.AWAITING_PAYMENT
+            """)
+    int finalizeAwaitingPayment(@Param("id") UUID id, @Param("today") LocalDate today);
+
+    @Query("""
+            SELECT o.seller.id AS sellerId, o.creationDate AS bucketDate, o.status AS bucket,
+                   COUNT(o) AS orderCount, SUM(o.totalValue) AS totalValue
+            FROM SalesOrder o
+            GROUP BY o.seller.id, o.creationDate, o.status
+            """)
+    List<RollupTotal> sumByStatus();
+
+    @Query("""
+            SELECT o.seller.id AS sellerId, o.creationDate AS bucketDate, p.method AS bucket,
+                   COUNT(o) AS orderCount, SUM(o.totalValue) AS totalValue
+            FROM SalesOrder o
+            JOIN o.payment p
+            WHERE o.status = com.drivefleet.drivefleet.domain.enums.OrderStatus.FINALIZED
+            GROUP BY o.seller.id, o.creationDate, p.method
+            """)
+    List<RollupTotal> sumFinalizedByPaymentMethod();
 }
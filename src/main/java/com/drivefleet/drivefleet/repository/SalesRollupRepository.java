@@ -0,0 +1,23 @@
+package com.drivefleet.drivefleet.repository;
+
+import com.drivefleet.drivefleet.domain.entities.SalesRollup;
+import com.drivefleet.drivefleet.domain.entities.SalesRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, SalesRollupId> {
+
+    @Modifying
+    @Query("""
+            UPDATE SalesRollup r
+            SET r.orderCount = r.orderCount + :count, r.totalValue = r.totalValue + :value
+            WHERE r.id = :id
+            """)
+    int addTo(@Param("id") SalesRollupId id, @Param("count") long count, @Param("value") BigDecimal value);
+}
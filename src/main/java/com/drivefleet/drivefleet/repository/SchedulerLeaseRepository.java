@@ -0,0 +1,23 @@
+package com.drivefleet.drivefleet.repository;
+
+import com.drivefleet.drivefleet.domain.entities.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    @Modifying
+    @Query("""
+            UPDATE SchedulerLease l
+            SET l.owner = :owner, l.expiresAt = :until
+            WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt < :now)
+            """)
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("until") Instant until, @Param("now") Instant now);
+}
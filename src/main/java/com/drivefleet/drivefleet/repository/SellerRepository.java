@@ -2,20 +2,92 @@ package com.drivefleet.drivefleet.repository;
 
 import com.drivefleet.drivefleet.domain.entities.Seller;
 import com.drivefleet.drivefleet.domain.enums.UserStatus;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.drivefleet.drivefleet.repository.projection.ExclusionState;
+import com.drivefleet.drivefleet.repository.projection.SellerSalesSummary;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface SellerRepository extends JpaRepository<Seller, UUID> {
-    Optional<Seller> findByRegistrationNumber(Long registrationNumber);
-    boolean existsByRegistrationNumber(Long registrationNumber);
+public interface SellerRepository extends NaturalIdRepository<Seller, UUID> {
+    default Optional<Seller> findByRegistrationNumber(Long registrationNumber) {
+        return findBySimpleNaturalId(registrationNumber);
+    }
 
-    @Query("SELECT s FROM Seller s WHERE s.user.status = :status")
-    List<Seller> findAllActive(@Param("status") UserStatus status);
+    // Listing pages are only ever rendered, so their entities are loaded without dirty-checking snapshots
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            SELECT s FROM Seller s
+            JOIN FETCH s.user u
+            WHERE u.status = :status
+            ORDER BY s.id
+            """)
+    List<Seller> findFirstPage(@Param("status") UserStatus status, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            SELECT s FROM Seller s
+            JOIN FETCH s.user u
+            WHERE u.status = :status AND s.id > :after
+            ORDER BY s.id
+            """)
+    List<Seller> findPageAfter(@Param("status") UserStatus status, @Param("after") UUID after, Limit limit);
+
+    @Query("""
+            SELECT s.id AS sellerId, s.registrationNumber AS registrationNumber,
+                   u.name AS name, u.email AS email,
+                   COUNT(o) AS salesCount,
+                   COALESCE(SUM(o.totalValue), 0) AS totalValue,
+                   MAX(o.creationDate) AS lastSaleDate
+            FROM Seller s
+            JOIN s.user u
+            LEFT JOIN s.sales o
+            WHERE u.status = :status AND (:after IS NULL OR s.id > :after)
+            GROUP BY s.id, s.registrationNumber, u.name, u.email
+            ORDER BY s.id
+            """)
+    List<SellerSalesSummary> findSalesSummaries(@Param("status") UserStatus status,
+                                                @Param("after") UUID after,
+                                                Limit limit);
+
+    @Query("""
+            SELECT s.registrationNumber FROM Seller s
+            WHERE s.registrationNumber BETWEEN :first AND :last
+            """)
+    List<Long> findRegistrationNumbersBetween(@Param("first") Long first, @Param("last") Long last);
+
+    // Locking the seller rows also holds off new orders for them, whose foreign key check needs a shared lock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT s.id AS id, u.status AS status,
+                   CASE WHEN EXISTS (SELECT o.id FROM SalesOrder o WHERE o.seller = s) THEN TRUE ELSE FALSE END
+                       AS hasSales
+            FROM Seller s
+            JOIN s.user u
+            WHERE s.id IN :ids
+            ORDER BY s.id
+            """)
+    List<ExclusionState> lockExclusionStates(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE User u
+            SET u.status = com.drivefleet.drivefleet.domain.enums.UserStatus.EXCLUDED
+            WHERE u.status <> com.drivefleet.drivefleet.domain.enums.UserStatus.EXCLUDED
+              AND u.id IN (SELECT s.user.id FROM Seller s WHERE s.id IN :ids)
+              AND NOT EXISTS (SELECT o.id FROM SalesOrder o WHERE o.seller.user = u)
+            """)
+    int excludeUsersWithoutSales(@Param("ids") Collection<UUID> ids);
 }
@@ -1,14 +1,45 @@
 package com.drivefleet.drivefleet.repository;
 
 import com.drivefleet.drivefleet.domain.entities.User;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.drivefleet.drivefleet.repository.projection.ExclusionState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findByEmail(String email);
-    boolean existsByEmail(String email);
+public interface UserRepository extends NaturalIdRepository<User, UUID> {
+    default Optional<User> findByEmail(String email) {
+        return findBySimpleNaturalId(email);
+    }
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT u.id AS id, u.status AS status, FALSE AS hasSales
+            FROM User u
+            WHERE u.id IN :ids
+            ORDER BY u.id
+            """)
+    List<ExclusionState> lockExclusionStates(@Param("ids") Collection<UUID> ids);
+
+    // A bulk update bypasses the persistence context, so pending changes go out first and loaded users are
+    // dropped afterwards; Hibernate invalidates the user cache regions itself when the statement runs
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE User u
+            SET u.status = com.drivefleet.drivefleet.domain.enums.UserStatus.EXCLUDED
+            WHERE u.id IN :ids
+              AND u.status <> com.drivefleet.drivefleet.domain.enums.UserStatus.EXCLUDED
+            """)
+    int excludeAll(@Param("ids") Collection<UUID> ids);
 }
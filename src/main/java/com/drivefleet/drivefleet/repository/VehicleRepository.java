@@ -1,14 +1,77 @@
 package com.drivefleet.drivefleet.repository;
 
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSummaryResponse;
 import com.drivefleet.drivefleet.domain.entities.Vehicle;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.drivefleet.drivefleet.inventory.VehicleDocument;
+import com.drivefleet.drivefleet.repository.projection.PendingDeadline;
+import com.drivefleet.drivefleet.repository.projection.VehicleReservationState;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface VehicleRepository extends JpaRepository<Vehicle, UUID> {
-    Optional<Vehicle> findByPlate(String plate);
-    boolean existsByPlate(String plate);
+public interface VehicleRepository extends NaturalIdRepository<Vehicle, UUID>, VehicleStateUpdates {
+    default Optional<Vehicle> findByPlate(String plate) {
+        return findBySimpleNaturalId(plate);
+    }
+
+    @Query("""
+            SELECT new com.drivefleet.drivefleet.inventory.VehicleDocument(
+                   v.id, v.brand, v.model, v.yearManufacture, v.yearModel, v.color, v.mileage, v.price, v.status,
+                   v.version)
+            FROM Vehicle v
+            WHERE (:after IS NULL OR v.id > :after)
+            ORDER BY v.id
+            """)
+    List<VehicleDocument> findDocuments(@Param("after") UUID after, Limit limit);
+
+    @Query("""
+            SELECT new com.drivefleet.drivefleet.inventory.VehicleDocument(
+                   v.id, v.brand, v.model, v.yearManufacture, v.yearModel, v.color, v.mileage, v.price, v.status,
+                   v.version)
+            FROM Vehicle v
+            WHERE v.id = :id
+            """)
+    Optional<VehicleDocument> findDocumentById(@Param("id") UUID id);
+
+    @Query("""
+            SELECT new com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSummaryResponse(
+                   v.id, v.brand, v.model, v.yearManufacture, v.yearModel, v.price)
+            FROM Vehicle v
+            WHERE v.id = :id
+            """)
+    Optional<VehicleSummaryResponse> findSummaryById(@Param("id") UUID id);
+
+    @Query("""
+            SELECT v.status AS status, v.reservedUntil AS reservedUntil, v.reservationToken AS reservationToken
+            FROM Vehicle v
+            WHERE v.id = :id
+            """)
+    Optional<VehicleReservationState> findReservationStateById(@Param("id") UUID id);
+
+    @Query("""
+            SELECT v.id AS id, v.reservedUntil AS deadline
+            FROM Vehicle v
+            WHERE v.status = com.drivefleet.drivefleet.domain.enums.VehicleStatus.RESERVED
+              AND v.reservedUntil > :after
+            """)
+    List<PendingDeadline> findReservationDeadlinesAfter(@Param("after") Instant after);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT v.id FROM Vehicle v
+            WHERE v.id IN :ids
+              AND v.status = com.drivefleet.drivefleet.domain.enums.VehicleStatus.RESERVED
+              AND v.reservedUntil < :now
+            """)
+    List<UUID> lockExpiredReservations(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
 }
@@ -0,0 +1,18 @@
+package com.drivefleet.drivefleet.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+// Conditional reservation UPDATEs; each bumps the version and reports how many rows it changed
+public interface VehicleStateUpdates {
+
+    // A reservation whose deadline has passed counts as free, so expiry needs no background job to take effect
+    int reserve(UUID id, UUID token, Instant until, Instant now);
+
+    int markSold(UUID id, UUID token, Instant now);
+
+    int release(UUID id, UUID token);
+
+    int releaseAll(Collection<UUID> ids);
+}
@@ -0,0 +1,115 @@
+package com.drivefleet.drivefleet.repository;
+
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// A JPQL bulk UPDATE on Vehicle evicts the whole entity and natural-id regions, so every reservation
+// would empty the vehicle cache. These run as native SQL synchronized on a query space no entity maps
+// to, and evict only the vehicles they touched: once now and again after completion, so a concurrent
+// load of the old row cannot leave it cached. No cached query reads vehicles, so the skipped
+// update-timestamps bump invalidates nothing; the plate never changes here, so its natural id stays valid.
+public class VehicleStateUpdatesImpl implements VehicleStateUpdates {
+
+    private static final String UNCACHED_SPACE = "vehicle_state_update";
+
+    private final EntityManager entityManager;
+
+    public VehicleStateUpdatesImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int reserve(UUID id, UUID token, Instant until, Instant now) {
+        Query query = entityManager.createNativeQuery("""
+                        UPDATE tb_vehicle
+                        SET status = 'RESERVED', reserved_until = :until, reservation_token = :token,
+                            version = version + 1
+                        WHERE id = :id
+                          AND (status = 'AVAILABLE' OR (status = 'RESERVED' AND reserved_until < :now))
+                        """)
+                .setParameter("id", id)
+                .setParameter("token", token)
+                .setParameter("until", until)
+                .setParameter("now", now);
+        return execute(query, List.of(id));
+    }
+
+    @Override
+    public int markSold(UUID id, UUID token, Instant now) {
+        Query query = entityManager.createNativeQuery("""
+                        UPDATE tb_vehicle
+                        SET status = 'SOLD', reserved_until = NULL, reservation_token = NULL, version = version + 1
+                        WHERE id = :id
+                          AND status = 'RESERVED' AND reservation_token = :token AND reserved_until >= :now
+                        """)
+                .setParameter("id", id)
+                .setParameter("token", token)
+                .setParameter("now", now);
+        return execute(query, List.of(id));
+    }
+
+    @Override
+    public int release(UUID id, UUID token) {
+        Query query = entityManager.createNativeQuery("""
+                        UPDATE tb_vehicle
+                        SET status = 'AVAILABLE', reserved_until = NULL, reservation_token = NULL,
+                            version = version + 1
+                        WHERE id = :id
+                          AND status = 'RESERVED' AND reservation_token = :token
+                        """)
+                .setParameter("id", id)
+                .setParameter("token", token);
+        return execute(query, List.of(id));
+    }
+
+    @Override
+    public int releaseAll(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Query query = entityManager.createNativeQuery("""
+                        UPDATE tb_vehicle
+                        SET status = 'AVAILABLE', reserved_until = NULL, reservation_token = NULL,
+                            version = version + 1
+                        WHERE id IN (:ids)
+                        """)
+                .setParameter("ids", ids);
+        return execute(query, ids);
+    }
+
+    // The narrowed query space also narrows auto-flush, so pending writes, like a vehicle inserted
+    // earlier in the transaction, are flushed explicitly
+    private int execute(Query query, Collection<UUID> ids) {
+        entityManager.flush();
+        int updated = query.unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(UNCACHED_SPACE)
+                .executeUpdate();
+        if (updated > 0) {
+            evict(List.copyOf(ids));
+        }
+        return updated;
+    }
+
+    private void evict(List<UUID> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        ids.forEach(id -> cache.evict(Vehicle.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(id -> cache.evict(Vehicle.class, id));
+                }
+            });
+        }
+    }
+}
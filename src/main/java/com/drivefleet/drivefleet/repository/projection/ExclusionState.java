@@ -0,0 +1,11 @@
+package com.drivefleet.drivefleet.repository.projection;
+
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+
+import java.util.UUID;
+
+public interface ExclusionState {
+    UUID getId();
+    UserStatus getStatus();
+    boolean getHasSales();
+}
@@ -0,0 +1,12 @@
+package com.drivefleet.drivefleet.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface OrderRollupRow {
+    UUID getId();
+    UUID getSellerId();
+    LocalDate getCreationDate();
+    BigDecimal getTotalValue();
+}
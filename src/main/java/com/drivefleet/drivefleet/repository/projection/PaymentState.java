@@ -0,0 +1,10 @@
+package com.drivefleet.drivefleet.repository.projection;
+
+import com.drivefleet.drivefleet.domain.enums.PaymentStatus;
+
+import java.util.UUID;
+
+public interface PaymentState {
+    UUID getId();
+    PaymentStatus getStatus();
+}
@@ -0,0 +1,16 @@
+package com.drivefleet.drivefleet.repository.projection;
+
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface PaymentTarget {
+    OrderStatus getStatus();
+    UUID getSellerId();
+    LocalDate getCreationDate();
+    BigDecimal getTotalValue();
+    UUID getVehicleId();
+    UUID getReservationToken();
+}
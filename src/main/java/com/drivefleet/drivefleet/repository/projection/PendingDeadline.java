@@ -0,0 +1,9 @@
+package com.drivefleet.drivefleet.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface PendingDeadline {
+    UUID getId();
+    Instant getDeadline();
+}
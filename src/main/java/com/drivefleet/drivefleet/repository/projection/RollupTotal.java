@@ -0,0 +1,13 @@
+package com.drivefleet.drivefleet.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface RollupTotal {
+    UUID getSellerId();
+    LocalDate getBucketDate();
+    Enum<?> getBucket();
+    Long getOrderCount();
+    BigDecimal getTotalValue();
+}
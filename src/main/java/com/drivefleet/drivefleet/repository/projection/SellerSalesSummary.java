@@ -0,0 +1,15 @@
+package com.drivefleet.drivefleet.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface SellerSalesSummary {
+    UUID getSellerId();
+    Long getRegistrationNumber();
+    String getName();
+    String getEmail();
+    Long getSalesCount();
+    BigDecimal getTotalValue();
+    LocalDate getLastSaleDate();
+}
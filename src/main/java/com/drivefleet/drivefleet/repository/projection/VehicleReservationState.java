@@ -0,0 +1,12 @@
+package com.drivefleet.drivefleet.repository.projection;
+
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface VehicleReservationState {
+    VehicleStatus getStatus();
+    Instant getReservedUntil();
+    UUID getReservationToken();
+}
@@ -0,0 +1,47 @@
+package com.drivefleet.drivefleet.security;
+
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class DriveFleetUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserDetails loadUserByUsername(String email) {
+        return userRepository.findByEmail(email)
+                .map(this::convertToUserDetails)
+                .orElseThrow(() -> new UsernameNotFoundException("User with email " + email + " not found"));
+    }
+
+    // Called by DaoAuthenticationProvider after a successful login when the stored hash is weaker than the configured one
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        return userRepository.findByEmail(user.getUsername())
+                .map(entity -> {
+                    entity.setPassword(newPassword);
+                    return convertToUserDetails(entity);
+                })
+                .orElseThrow(() -> new UsernameNotFoundException("User with email " + user.getUsername() + " not found"));
+    }
+
+    private UserDetails convertToUserDetails(com.drivefleet.drivefleet.domain.entities.User user) {
+        return User.withUsername(user.getEmail())
+                .password(user.getPassword())
+                .roles(user.getRole().name())
+                .disabled(user.getStatus() == UserStatus.EXCLUDED)
+                .build();
+    }
+}
@@ -3,13 +3,12 @@ package com.drivefleet.drivefleet.security;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordEncoderConfig {
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public PasswordHasher passwordEncoder(PasswordHashingProperties properties) {
+        return new PasswordHasher(new BCryptPasswordEncoder(properties.strength()), properties);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,403 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.BulkImportProperties;
+import com.drivefleet.drivefleet.domain.dto.customer.CustomerRequest;
+import com.drivefleet.drivefleet.domain.dto.imports.ImportReport;
+import com.drivefleet.drivefleet.domain.dto.imports.ImportRowError;
+import com.drivefleet.drivefleet.domain.dto.seller.SellerRequest;
+import com.drivefleet.drivefleet.domain.dto.user.UserRequest;
+import com.drivefleet.drivefleet.domain.entities.Customer;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.enums.ImportFormat;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.exceptions.PasswordHashingSaturatedException;
+import com.drivefleet.drivefleet.repository.CustomerRepository;
+import com.drivefleet.drivefleet.repository.SellerRepository;
+import com.drivefleet.drivefleet.repository.UserRepository;
+import com.drivefleet.drivefleet.security.PasswordHasher;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class BulkImportService {
+
+    private final UserRepository userRepository;
+    private final SellerRepository sellerRepository;
+    private final CustomerRepository customerRepository;
+    private final PasswordHasher passwordHasher;
+    private final RegistrationNumberAllocator registrationNumberAllocator;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final BulkImportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkImportService(UserRepository userRepository,
+                             SellerRepository sellerRepository,
+                             CustomerRepository customerRepository,
+                             PasswordHasher passwordHasher,
+                             RegistrationNumberAllocator registrationNumberAllocator,
+                             Validator validator,
+                             JsonMapper jsonMapper,
+                             BulkImportProperties properties,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.sellerRepository = sellerRepository;
+        this.customerRepository = customerRepository;
+        this.passwordHasher = passwordHasher;
+        this.registrationNumberAllocator = registrationNumberAllocator;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ImportReport importSellers(InputStream input, ImportFormat format) {
+        Set<Object> importedEmails = new HashSet<>();
+        return runImport(input, format, SellerRequest.class, this::toSellerRequest,
+                (rows, report) -> writeSellers(rows, report, importedEmails));
+    }
+
+    public ImportReport importCustomers(InputStream input, ImportFormat format) {
+        Set<Object> importedEmails = new HashSet<>();
+        Set<Object> importedCpfs = new HashSet<>();
+        Set<Object> importedPhones = new HashSet<>();
+        return runImport(input, format, CustomerRequest.class, this::toCustomerRequest,
+                (rows, report) -> writeCustomers(rows, report, importedEmails, importedCpfs, importedPhones));
+    }
+
+    private <T> ImportReport runImport(InputStream input,
+                                       ImportFormat format,
+                                       Class<T> type,
+                                       Function<Map<String, String>, T> csvMapper,
+                                       ChunkWriter<T> writer) {
+        ReportCollector report = new ReportCollector(properties.maxReportedErrors());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            ImportRecordReader<T> records = new ImportRecordReader<>(reader, format, type, csvMapper, jsonMapper);
+            List<ImportRecordReader.Row<T>> chunk = new ArrayList<>(properties.chunkSize());
+
+            ImportRecordReader.Row<T> row;
+            while ((row = records.next()) != null) {
+                report.received++;
+                if (row.error() != null) {
+                    report.reject(row.line(), row.error());
+                    continue;
+                }
+                String violations = validate(row.request());
+                if (violations != null) {
+                    report.reject(row.line(), violations);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() >= properties.chunkSize()) {
+                    chunk = new ArrayList<>(writer.write(chunk, report));
+                }
+            }
+            // The first row of a chunk is never deferred, so every pass settles at least one row
+            while (!chunk.isEmpty()) {
+                chunk = writer.write(chunk, report);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return report.toReport();
+    }
+
+    private List<ImportRecordReader.Row<SellerRequest>> writeSellers(
+            List<ImportRecordReader.Row<SellerRequest>> rows,
+            ReportCollector report,
+            Set<Object> importedEmails) {
+        List<UniqueKey<SellerRequest>> keys = List.of(
+                new UniqueKey<SellerRequest>("Email", row -> normalizeEmail(row.request().user().email()),
+                        importedEmails, existingEmails(rows, row -> row.request().user().email())));
+        return write(rows, report, keys, request -> request.user().password(), this::persistSellers);
+    }
+
+    private List<ImportRecordReader.Row<CustomerRequest>> writeCustomers(
+            List<ImportRecordReader.Row<CustomerRequest>> rows,
+            ReportCollector report,
+            Set<Object> importedEmails,
+            Set<Object> importedCpfs,
+            Set<Object> importedPhones) {
+        List<UniqueKey<CustomerRequest>> keys = List.of(
+                new UniqueKey<CustomerRequest>("Email", row -> normalizeEmail(row.request().user().email()),
+                        importedEmails, existingEmails(rows, row -> row.request().user().email())),
+                new UniqueKey<CustomerRequest>("CPF", row -> row.request().cpf(), importedCpfs,
+                        new HashSet<>(customerRepository.findExistingCpfs(
+                                rows.stream().map(row -> row.request().cpf()).toList()))),
+                new UniqueKey<CustomerRequest>("Phone", row -> row.request().phone(), importedPhones,
+                        new HashSet<>(customerRepository.findExistingPhones(
+                                rows.stream().map(row -> row.request().phone()).toList()))));
+        return write(rows, report, keys, request -> request.user().password(), this::persistCustomers);
+    }
+
+    // Returns the rows deferred to the next chunk
+    private <T> List<ImportRecordReader.Row<T>> write(List<ImportRecordReader.Row<T>> rows,
+                                                      ReportCollector report,
+                                                      List<UniqueKey<T>> keys,
+                                                      Function<T, String> password,
+                                                      Persister<T> persister) {
+        List<ImportRecordReader.Row<T>> accepted = new ArrayList<>(rows.size());
+        List<ImportRecordReader.Row<T>> deferred = new ArrayList<>();
+        screenKeys(rows, keys, accepted, deferred, report);
+
+        List<HashedRow<T>> imported = persistChunk(hashPasswords(accepted, password, report), report, persister);
+        for (UniqueKey<T> key : keys) {
+            for (HashedRow<T> row : imported) {
+                key.imported().add(key.value().apply(row.row()));
+            }
+        }
+        return deferred;
+    }
+
+    private <T> Set<String> existingEmails(List<ImportRecordReader.Row<T>> rows,
+                                           Function<ImportRecordReader.Row<T>, String> email) {
+        return userRepository.findExistingEmails(rows.stream().map(email).toList())
+                .stream()
+                .map(this::normalizeEmail)
+                .collect(Collectors.toSet());
+    }
+
+    // A key only counts as taken by the import once its row is persisted. A row sharing a key with an
+    // earlier row of the same chunk is held back for the next chunk instead of rejected, so it is reported
+    // as repeated only if that earlier row really was imported, not if it failed a later check.
+    private <T> void screenKeys(List<ImportRecordReader.Row<T>> rows,
+                                List<UniqueKey<T>> keys,
+                                List<ImportRecordReader.Row<T>> accepted,
+                                List<ImportRecordReader.Row<T>> deferred,
+                                ReportCollector report) {
+        List<Set<Object>> claimed = new ArrayList<>(keys.size());
+        keys.forEach(key -> claimed.add(new HashSet<>()));
+
+        rows:
+        for (ImportRecordReader.Row<T> row : rows) {
+            Object[] values = new Object[keys.size()];
+            boolean clashes = false;
+            for (int i = 0; i < keys.size(); i++) {
+                UniqueKey<T> key = keys.get(i);
+                Object value = key.value().apply(row);
+                // Imported values are looked up first: a deferred row's existing-key query already sees its twin
+                if (key.imported().contains(value)) {
+                    report.reject(row.line(), key.label() + " " + value + " is repeated in the import");
+                    continue rows;
+                }
+                if (key.existing().contains(value)) {
+                    report.reject(row.line(), key.label() + " " + value + " already exists");
+                    continue rows;
+                }
+                clashes |= claimed.get(i).contains(value);
+                values[i] = value;
+            }
+            if (clashes) {
+                deferred.add(row);
+                continue;
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                claimed.get(i).add(values[i]);
+            }
+            accepted.add(row);
+        }
+    }
+
+    private <T> List<HashedRow<T>> hashPasswords(List<ImportRecordReader.Row<T>> rows,
+                                                 Function<T, String> password,
+                                                 ReportCollector report) {
+        List<HashedRow<T>> hashed = new ArrayList<>(rows.size());
+        int window = passwordHasher.poolSize();
+
+        for (int from = 0; from < rows.size(); from += window) {
+            List<ImportRecordReader.Row<T>> slice = rows.subList(from, Math.min(from + window, rows.size()));
+            List<CompletableFuture<String>> futures = new ArrayList<>(slice.size());
+            for (ImportRecordReader.Row<T> row : slice) {
+                try {
+                    futures.add(passwordHasher.encodeAsync(password.apply(row.request())));
+                } catch (PasswordHashingSaturatedException ex) {
+                    futures.add(CompletableFuture.failedFuture(ex));
+                }
+            }
+            for (int i = 0; i < slice.size(); i++) {
+                try {
+                    hashed.add(new HashedRow<>(slice.get(i), futures.get(i).join()));
+                } catch (CompletionException ex) {
+                    report.reject(slice.get(i).line(), "Password could not be hashed: " + ex.getCause().getMessage());
+                }
+            }
+        }
+        return hashed;
+    }
+
+    private <T> List<HashedRow<T>> persistChunk(List<HashedRow<T>> rows, ReportCollector report,
+                                                Persister<T> persister) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> persister.persist(rows));
+            report.imported += rows.size();
+            return rows;
+        } catch (DataIntegrityViolationException ex) {
+            // Another writer took one of the keys after the pre-check; isolate the offending rows
+            List<HashedRow<T>> imported = new ArrayList<>(rows.size());
+            for (HashedRow<T> row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persister.persist(List.of(row)));
+                    report.imported++;
+                    imported.add(row);
+                } catch (DataIntegrityViolationException rowEx) {
+                    report.reject(row.row().line(), "Row conflicts with existing data");
+                }
+            }
+            return imported;
+        }
+    }
+
+    private void persistSellers(List<HashedRow<SellerRequest>> rows) {
+        List<User> users = userRepository.saveAll(rows.stream()
+                .map(row -> buildUser(row.row().request().user(), row.passwordHash(), UserRole.SELLER))
+                .toList());
+
+        sellerRepository.saveAll(users.stream()
+                .map(user -> Seller.builder()
+                        .registrationNumber(registrationNumberAllocator.next())
+                        .user(user)
+                        .sales(new ArrayList<>())
+                        .build())
+                .toList());
+    }
+
+    private void persistCustomers(List<HashedRow<CustomerRequest>> rows) {
+        List<User> users = userRepository.saveAll(rows.stream()
+                .map(row -> buildUser(row.row().request().user(), row.passwordHash(), UserRole.CUSTOMER))
+                .toList());
+
+        List<Customer> customers = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            CustomerRequest request = rows.get(i).row().request();
+            customers.add(Customer.builder()
+                    .cpf(request.cpf())
+                    .phone(request.phone())
+                    .address(request.address())
+                    .user(users.get(i))
+                    .orders(new ArrayList<>())
+                    .build());
+        }
+        customerRepository.saveAll(customers);
+    }
+
+    private User buildUser(UserRequest request, String passwordHash, UserRole role) {
+        return User.builder()
+                .name(request.name())
+                .email(request.email())
+                .password(passwordHash)
+                .role(role)
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    private SellerRequest toSellerRequest(Map<String, String> record) {
+        return new SellerRequest(toUserRequest(record, UserRole.SELLER));
+    }
+
+    private CustomerRequest toCustomerRequest(Map<String, String> record) {
+        return new CustomerRequest(
+                parseLong(record.get("cpf")),
+                parseLong(record.get("phone")),
+                record.get("address"),
+                toUserRequest(record, UserRole.CUSTOMER)
+        );
+    }
+
+    private UserRequest toUserRequest(Map<String, String> record, UserRole role) {
+        return new UserRequest(record.get("name"), record.get("email"), record.get("password"), role);
+    }
+
+    private Long parseLong(String value) {
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    private String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private <T> String validate(T request) {
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        List<ImportRecordReader.Row<T>> write(List<ImportRecordReader.Row<T>> rows, ReportCollector report);
+    }
+
+    @FunctionalInterface
+    private interface Persister<T> {
+        void persist(List<HashedRow<T>> rows);
+    }
+
+    private record HashedRow<T>(ImportRecordReader.Row<T> row, String passwordHash) {}
+
+    private record UniqueKey<T>(String label,
+                                Function<ImportRecordReader.Row<T>, Object> value,
+                                Set<Object> imported,
+                                Set<?> existing) {}
+
+    private static final class ReportCollector {
+
+        private final int maxReportedErrors;
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long rejected;
+
+        private ReportCollector(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportRowError(line, message));
+            }
+        }
+
+        private ImportReport toReport() {
+            return ImportReport.builder()
+                    .received(received)
+                    .imported(imported)
+                    .rejected(rejected)
+                    .errors(List.copyOf(errors))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.domain.dto.cache.CacheRegionStatisticsResponse;
+import com.drivefleet.drivefleet.domain.dto.cache.CacheStatisticsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+
+@Service
+public class CacheStatisticsService {
+
+    private final Statistics statistics;
+
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public CacheStatisticsResponse currentStatistics() {
+        return CacheStatisticsResponse.builder()
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .secondLevelHitCount(statistics.getSecondLevelCacheHitCount())
+                .secondLevelMissCount(statistics.getSecondLevelCacheMissCount())
+                .queryCacheHitCount(statistics.getQueryCacheHitCount())
+                .queryCacheMissCount(statistics.getQueryCacheMissCount())
+                .naturalIdCacheHitCount(statistics.getNaturalIdCacheHitCount())
+                .naturalIdCacheMissCount(statistics.getNaturalIdCacheMissCount())
+                .regions(Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                        .sorted()
+                        .map(this::convertToResponse)
+                        .toList())
+                .build();
+    }
+
+    private CacheRegionStatisticsResponse convertToResponse(String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return CacheRegionStatisticsResponse.builder()
+                .region(region)
+                .hitCount(regionStatistics.getHitCount())
+                .missCount(regionStatistics.getMissCount())
+                .putCount(regionStatistics.getPutCount())
+                .elementCountInMemory(regionStatistics.getElementCountInMemory())
+                .build();
+    }
+}
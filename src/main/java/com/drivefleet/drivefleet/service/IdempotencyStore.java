@@ -0,0 +1,67 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.IdempotencyProperties;
+import com.drivefleet.drivefleet.domain.entities.IdempotencyRecord;
+import com.drivefleet.drivefleet.repository.IdempotencyRecordRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// Retried callbacks usually arrive within seconds, so a small access-ordered LRU absorbs replay storms;
+// the table catches anything evicted from it or handled by another node.
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+    private final Map<String, IdempotencyRecord> recent;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, IdempotencyProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > properties.cacheSize();
+            }
+        });
+    }
+
+    public Optional<IdempotencyRecord> find(String key) {
+        IdempotencyRecord cached = recent.get(key);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return Optional.of(cached);
+            }
+            recent.remove(key);
+        }
+        Optional<IdempotencyRecord> stored = repository.findById(key).filter(record -> !isExpired(record));
+        stored.ifPresent(this::remember);
+        return stored;
+    }
+
+    // Inserts right away, so a concurrent claim of the same key waits on the primary key and then fails
+    public IdempotencyRecord claim(IdempotencyRecord record) {
+        return repository.saveAndFlush(record);
+    }
+
+    public void remember(IdempotencyRecord record) {
+        recent.put(record.getKey(), record);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${drivefleet.payments.idempotency.purge-interval:1h}")
+    public void purgeExpired() {
+        repository.deleteCreatedBefore(Instant.now().minus(properties.retention()));
+    }
+
+    private boolean isExpired(IdempotencyRecord record) {
+        return record.getCreatedAt().isBefore(Instant.now().minus(properties.retention()));
+    }
+}
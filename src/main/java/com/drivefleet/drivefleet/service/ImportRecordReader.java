@@ -0,0 +1,87 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.domain.enums.ImportFormat;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+final class ImportRecordReader<T> {
+
+    record Row<T>(long line, T request, String error) {}
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final Class<T> type;
+    private final Function<Map<String, String>, T> csvMapper;
+    private final JsonMapper jsonMapper;
+
+    private List<String> header;
+    private long lineNumber;
+
+    ImportRecordReader(BufferedReader reader,
+                       ImportFormat format,
+                       Class<T> type,
+                       Function<Map<String, String>, T> csvMapper,
+                       JsonMapper jsonMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.type = type;
+        this.csvMapper = csvMapper;
+        this.jsonMapper = jsonMapper;
+    }
+
+    Row<T> next() {
+        String line = readNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+        if (format == ImportFormat.CSV && header == null) {
+            header = CsvLineParser.parse(line).stream()
+                    .map(column -> column.toLowerCase(Locale.ROOT))
+                    .toList();
+            return next();
+        }
+        try {
+            return new Row<>(lineNumber, format == ImportFormat.CSV ? parseCsv(line) : parseJson(line), null);
+        } catch (JacksonException | IllegalArgumentException ex) {
+            return new Row<>(lineNumber, null, "Malformed record: " + ex.getMessage());
+        }
+    }
+
+    private T parseJson(String line) {
+        return jsonMapper.readValue(line, type);
+    }
+
+    private T parseCsv(String line) {
+        List<String> values = CsvLineParser.parse(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("Expected " + header.size() + " columns but found " + values.size());
+        }
+        Map<String, String> record = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            record.put(header.get(i), values.get(i).isEmpty() ? null : values.get(i));
+        }
+        return csvMapper.apply(record);
+    }
+
+    private String readNonBlankLine() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+            } while (line != null && line.isBlank());
+            return line;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.analytics.OrderStatusChangedEvent;
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentReceipt;
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentRequest;
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentResponse;
+import com.drivefleet.drivefleet.domain.entities.IdempotencyRecord;
+import com.drivefleet.drivefleet.domain.entities.Payment;
+import com.drivefleet.drivefleet.domain.entities.SalesOrder;
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.domain.enums.PaymentStatus;
+import com.drivefleet.drivefleet.exceptions.IdempotencyKeyReuseException;
+import com.drivefleet.drivefleet.exceptions.OrderNotAwaitingPaymentException;
+import com.drivefleet.drivefleet.exceptions.PaymentAlreadyRegisteredException;
+import com.drivefleet.drivefleet.exceptions.SalesOrderNotFoundException;
+import com.drivefleet.drivefleet.repository.PaymentRepository;
+import com.drivefleet.drivefleet.repository.SalerOrderRepository;
+import com.drivefleet.drivefleet.repository.projection.PaymentState;
+import com.drivefleet.drivefleet.repository.projection.PaymentTarget;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class PaymentService {
+
+    private static final String PAYMENT_SALES_ORDER_CONSTRAINT = "UK_PAYMENT_SALES_ORDER";
+
+    private final PaymentRepository paymentRepository;
+    private final SalerOrderRepository salerOrderRepository;
+    private final VehicleReservationService vehicleReservationService;
+    private final IdempotencyStore idempotencyStore;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public PaymentService(PaymentRepository paymentRepository,
+                          SalerOrderRepository salerOrderRepository,
+                          VehicleReservationService vehicleReservationService,
+                          IdempotencyStore idempotencyStore,
+                          EntityManager entityManager,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager) {
+        this.paymentRepository = paymentRepository;
+        this.salerOrderRepository = salerOrderRepository;
+        this.vehicleReservationService = vehicleReservationService;
+        this.idempotencyStore = idempotencyStore;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public PaymentReceipt ingest(String idempotencyKey, PaymentRequest request) {
+        String fingerprint = fingerprint(request);
+        Optional<PaymentReceipt> replay = replay(idempotencyKey, fingerprint);
+        if (replay.isPresent()) {
+            return replay.get();
+        }
+
+        try {
+            IdempotencyRecord record = transactionTemplate.execute(status ->
+                    register(idempotencyKey, fingerprint, request));
+            idempotencyStore.remember(record);
+            return new PaymentReceipt(convertToResponse(record), false);
+        } catch (RuntimeException ex) {
+            // A concurrent retry with the same key may have committed first; answer with its outcome
+            Optional<PaymentReceipt> committed = replay(idempotencyKey, fingerprint);
+            if (committed.isPresent()) {
+                return committed.get();
+            }
+            throw ex instanceof DataIntegrityViolationException violation ? translate(violation, request) : ex;
+        }
+    }
+
+    // Payment row, order finalization, vehicle sale and idempotency record commit or roll back together.
+    // The key is claimed first, so a retry racing this attempt blocks on it instead of on the order checks.
+    private IdempotencyRecord register(String idempotencyKey, String fingerprint, PaymentRequest request) {
+        UUID orderId = request.salesOrderId();
+        IdempotencyRecord record = idempotencyStore.claim(IdempotencyRecord.builder()
+                .key(idempotencyKey)
+                .fingerprint(fingerprint)
+                .createdAt(Instant.now())
+                .salesOrderId(orderId)
+                .price(request.price())
+                .method(request.method())
+                .status(request.status())
+                .paymentDate(request.paymentDate())
+                .build());
+
+        PaymentTarget target = salerOrderRepository.findPaymentTarget(orderId)
+                .orElseThrow(() -> new SalesOrderNotFoundException(orderId.toString()));
+        if (target.getStatus() != OrderStatus.AWAITING_PAYMENT) {
+            throw new OrderNotAwaitingPaymentException(orderId.toString());
+        }
+
+        UUID paymentId = savePayment(request);
+
+        if (request.status() == PaymentStatus.APPROVED) {
+            if (salerOrderRepository.finalizeAwaitingPayment(orderId, LocalDate.now()) == 0) {
+                throw new OrderNotAwaitingPaymentException(orderId.toString());
+            }
+            if (target.getVehicleId() != null) {
+                vehicleReservationService.confirmSale(target.getVehicleId(), target.getReservationToken());
+            }
+            eventPublisher.publishEvent(OrderStatusChangedEvent.finalized(orderId, target.getSellerId(),
+                    target.getCreationDate(), target.getTotalValue(), request.method()));
+        }
+
+        record.setPaymentId(paymentId);
+        return record;
+    }
+
+    private UUID savePayment(PaymentRequest request) {
+        Optional<PaymentState> existing = paymentRepository.findStateBySalesOrderId(request.salesOrderId());
+        if (existing.isPresent()) {
+            PaymentState state = existing.get();
+            if (paymentRepository.replaceDeclined(state.getId(), request.paymentDate(), request.price(),
+                    request.method(), request.status()) == 0) {
+                throw new PaymentAlreadyRegisteredException(request.salesOrderId().toString());
+            }
+            return state.getId();
+        }
+
+        Payment payment = Payment.builder()
+                .paymentDate(request.paymentDate())
+                .price(request.price())
+                .method(request.method())
+                .status(request.status())
+                .salesOrder(entityManager.getReference(SalesOrder.class, request.salesOrderId()))
+                .build();
+        return paymentRepository.saveAndFlush(payment).getId();
+    }
+
+    private Optional<PaymentReceipt> replay(String idempotencyKey, String fingerprint) {
+        return idempotencyStore.find(idempotencyKey).map(record -> {
+            if (!record.getFingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyReuseException(idempotencyKey);
+            }
+            return new PaymentReceipt(convertToResponse(record), true);
+        });
+    }
+
+    private RuntimeException translate(DataIntegrityViolationException ex, PaymentRequest request) {
+        String violated = UniqueKeyGuard.violatedConstraint(ex);
+        if (violated != null && violated.contains(PAYMENT_SALES_ORDER_CONSTRAINT)) {
+            return new PaymentAlreadyRegisteredException(request.salesOrderId().toString());
+        }
+        return ex;
+    }
+
+    static String fingerprint(PaymentRequest request) {
+        String canonical = String.join("|",
+                String.valueOf(request.salesOrderId()),
+                String.valueOf(request.paymentDate()),
+                request.price() == null ? "null" : request.price().stripTrailingZeros().toPlainString(),
+                String.valueOf(request.method()),
+                String.valueOf(request.status()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private PaymentResponse convertToResponse(IdempotencyRecord record) {
+        return PaymentResponse.builder()
+                .id(record.getPaymentId())
+                .method(record.getMethod())
+                .status(record.getStatus())
+                .price(record.getPrice())
+                .paymentDate(record.getPaymentDate())
+                .salesOrderId(record.getSalesOrderId())
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.RegistrationNumberProperties;
+import com.drivefleet.drivefleet.domain.entities.NumberSequence;
+import com.drivefleet.drivefleet.exceptions.RegistrationNumbersExhaustedException;
+import com.drivefleet.drivefleet.repository.NumberSequenceRepository;
+import com.drivefleet.drivefleet.repository.SellerRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class RegistrationNumberAllocator {
+
+    private static final int MAX_SEED_ATTEMPTS = 3;
+
+    private final NumberSequenceRepository sequenceRepository;
+    private final SellerRepository sellerRepository;
+    private final RegistrationNumberProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<Block> current = new AtomicReference<>(Block.EMPTY);
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    public RegistrationNumberAllocator(NumberSequenceRepository sequenceRepository,
+                                       SellerRepository sellerRepository,
+                                       RegistrationNumberProperties properties,
+                                       PlatformTransactionManager transactionManager) {
+        this.sequenceRepository = sequenceRepository;
+        this.sellerRepository = sellerRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public long next() {
+        while (true) {
+            Block block = current.get();
+            int index = block.cursor.getAndIncrement();
+            if (index < block.values.length) {
+                return block.values[index];
+            }
+            refill(block);
+        }
+    }
+
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            if (current.get() == exhausted) {
+                current.set(reserveBlock());
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private Block reserveBlock() {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    NumberSequence sequence = sequenceRepository.findForUpdate(properties.sequenceName())
+                            .orElseGet(() -> sequenceRepository.saveAndFlush(NumberSequence.builder()
+                                    .name(properties.sequenceName())
+                                    .nextValue(properties.firstValue())
+                                    .build()));
+
+                    long first = sequence.getNextValue();
+                    if (first > properties.maxValue()) {
+                        throw new RegistrationNumbersExhaustedException(properties.sequenceName());
+                    }
+                    long last = Math.min(first + properties.blockSize() - 1, properties.maxValue());
+                    sequence.setNextValue(last + 1);
+
+                    return Block.of(first, last, takenNumbers(first, last));
+                });
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt >= MAX_SEED_ATTEMPTS) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    // Sellers created before the allocator existed hold random numbers; skip them once per block
+    private Set<Long> takenNumbers(long first, long last) {
+        return new HashSet<>(sellerRepository.findRegistrationNumbersBetween(first, last));
+    }
+
+    private static final class Block {
+
+        private static final Block EMPTY = new Block(new long[0]);
+
+        private final long[] values;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        private Block(long[] values) {
+            this.values = values;
+        }
+
+        private static Block of(long first, long last, Set<Long> taken) {
+            long[] values = new long[(int) (last - first + 1) - taken.size()];
+            int i = 0;
+            for (long value = first; value <= last; value++) {
+                if (!taken.contains(value)) {
+                    values[i++] = value;
+                }
+            }
+            return new Block(values);
+        }
+    }
+}
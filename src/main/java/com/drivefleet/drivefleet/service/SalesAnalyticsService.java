@@ -0,0 +1,32 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.analytics.SalesRollupUpdater;
+import com.drivefleet.drivefleet.domain.dto.analytics.SalesAnalyticsResponse;
+import com.drivefleet.drivefleet.domain.enums.AnalyticsGranularity;
+import com.drivefleet.drivefleet.exceptions.InvalidDateRangeException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Answers come from the rollup index, so the cost of a query follows the number of days and buckets in
+// the range rather than the number of orders behind them.
+@Service
+@RequiredArgsConstructor
+public class SalesAnalyticsService {
+
+    private final SalesRollupUpdater salesRollupUpdater;
+
+    public SalesAnalyticsResponse summarize(UUID sellerId, LocalDate from, LocalDate to,
+                                            AnalyticsGranularity granularity) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException(from.toString(), to.toString());
+        }
+        return salesRollupUpdater.index().query(sellerId, from, to, granularity);
+    }
+
+    public void rebuild() {
+        salesRollupUpdater.rebuild();
+    }
+}
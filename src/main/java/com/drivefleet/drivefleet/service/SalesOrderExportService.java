@@ -0,0 +1,169 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.SalesOrderExportProperties;
+import com.drivefleet.drivefleet.datasource.ReplicaRoutingDataSource;
+import com.drivefleet.drivefleet.domain.dto.customer.CustomerSummaryResponse;
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentResponse;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderResponse;
+import com.drivefleet.drivefleet.domain.dto.seller.SellerSummaryResponse;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSummaryResponse;
+import com.drivefleet.drivefleet.domain.entities.SalesOrder;
+import com.drivefleet.drivefleet.domain.enums.ExportFormat;
+import com.drivefleet.drivefleet.exceptions.InvalidDateRangeException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+// Orders are read through a forward-only cursor and written as they arrive; every fetch-size rows the
+// writer is flushed and the persistence context cleared, so memory stays flat however long the range.
+// The second-level cache is bypassed so an export does not evict what the regular endpoints rely on.
+@Service
+public class SalesOrderExportService {
+
+    private static final String QUERY = """
+            SELECT o FROM SalesOrder o
+            JOIN FETCH o.seller s
+            JOIN FETCH s.user
+            JOIN FETCH o.customer c
+            JOIN FETCH c.user
+            LEFT JOIN FETCH o.vehicle
+            LEFT JOIN FETCH o.payment
+            WHERE o.creationDate BETWEEN :from AND :to
+            ORDER BY o.creationDate, o.id
+            """;
+
+    private static final List<String> CSV_HEADER = List.of(
+            "id", "creationDate", "conclusionDate", "totalValue", "status",
+            "sellerId", "sellerRegistrationNumber", "sellerName", "sellerEmail",
+            "customerId", "customerName", "customerEmail", "customerPhone",
+            "vehicleId", "vehicleBrand", "vehicleModel", "vehicleYearManufacture", "vehicleYearModel", "vehiclePrice",
+            "paymentId", "paymentMethod", "paymentStatus", "paymentPrice", "paymentDate");
+
+    private final EntityManager entityManager;
+    private final SalesOrderService salesOrderService;
+    private final JsonMapper jsonMapper;
+    private final SalesOrderExportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public SalesOrderExportService(EntityManager entityManager,
+                                   SalesOrderService salesOrderService,
+                                   JsonMapper jsonMapper,
+                                   SalesOrderExportProperties properties,
+                                   PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.salesOrderService = salesOrderService;
+        this.jsonMapper = jsonMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // The range is checked up front: once the body starts streaming the status code is already sent
+    public StreamingResponseBody export(LocalDate from, LocalDate to, ExportFormat format, boolean gzip) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException(from.toString(), to.toString());
+        }
+        // Created on the request thread; the body is written from an async one
+        Executor replicaRead = ReplicaRoutingDataSource.serviceReads();
+        return output -> {
+            OutputStream target = gzip ? new GZIPOutputStream(output, 8192) : output;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 65536);
+            try {
+                replicaRead.execute(() ->
+                        transactionTemplate.executeWithoutResult(status -> write(from, to, format, writer)));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            writer.flush();
+            if (target instanceof GZIPOutputStream compressed) {
+                compressed.finish();
+            }
+        };
+    }
+
+    private void write(LocalDate from, LocalDate to, ExportFormat format, Writer writer) {
+        try (Stream<SalesOrder> orders = entityManager.createQuery(QUERY, SalesOrder.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, properties.fetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .getResultStream()) {
+            if (format == ExportFormat.CSV) {
+                writer.write(csvLine(CSV_HEADER.stream()));
+            }
+            Iterator<SalesOrder> iterator = orders.iterator();
+            for (long written = 1; iterator.hasNext(); written++) {
+                SalesOrderResponse order = salesOrderService.convertToResponse(iterator.next());
+                writer.write(format == ExportFormat.CSV ? toCsv(order) : jsonMapper.writeValueAsString(order) + "\n");
+                if (written % properties.fetchSize() == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        } catch (IOException ex) {
+            // Usually the client went away; rolling back just closes the cursor
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String toCsv(SalesOrderResponse order) {
+        SellerSummaryResponse seller = order.seller();
+        CustomerSummaryResponse customer = order.customer();
+        VehicleSummaryResponse vehicle = order.vehicle();
+        PaymentResponse payment = order.payment();
+        List<Object> values = new ArrayList<>(CSV_HEADER.size());
+        Collections.addAll(values, order.id(), order.creationDate(), order.conclusionDate(), order.totalValue(),
+                order.status(), seller.id(), seller.registrationNumber(), seller.name(), seller.email(),
+                customer.id(), customer.name(), customer.email(), customer.phone());
+        if (vehicle != null) {
+            Collections.addAll(values, vehicle.id(), vehicle.brand(), vehicle.model(), vehicle.yearManufacture(),
+                    vehicle.yearModel(), vehicle.price());
+        }
+        while (values.size() < CSV_HEADER.indexOf("paymentId")) {
+            values.add(null);
+        }
+        if (payment != null) {
+            Collections.addAll(values, payment.id(), payment.method(), payment.status(), payment.price(),
+                    payment.paymentDate());
+        }
+        while (values.size() < CSV_HEADER.size()) {
+            values.add(null);
+        }
+        return csvLine(values.stream().map(value -> Objects.toString(value, "")));
+    }
+
+    private static String csvLine(Stream<String> values) {
+        return values.map(SalesOrderExportService::quote).collect(Collectors.joining(",", "", "\n"));
+    }
+
+    private static String quote(String value) {
+        if (value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,188 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.analytics.OrderStatusChangedEvent;
+import com.drivefleet.drivefleet.domain.dto.customer.CustomerSummaryResponse;
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentResponse;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderRequest;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderResponse;
+import com.drivefleet.drivefleet.domain.dto.seller.SellerSummaryResponse;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleReservationResponse;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSummaryResponse;
+import com.drivefleet.drivefleet.domain.entities.Customer;
+import com.drivefleet.drivefleet.domain.entities.Payment;
+import com.drivefleet.drivefleet.domain.entities.SalesOrder;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.exceptions.CustomerNotFoundException;
+import com.drivefleet.drivefleet.exceptions.SellerNotFoundException;
+import com.drivefleet.drivefleet.exceptions.VehicleNotFoundException;
+import com.drivefleet.drivefleet.expiry.DeadlineScheduledEvent;
+import com.drivefleet.drivefleet.repository.SalerOrderRepository;
+import com.drivefleet.drivefleet.repository.VehicleRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SalesOrderService {
+
+    private static final String CUSTOMER_FOREIGN_KEY = "FK_SALES_ORDER_CUSTOMER";
+    private static final String SELLER_FOREIGN_KEY = "FK_SALES_ORDER_SELLER";
+
+    private final SalerOrderRepository salerOrderRepository;
+    private final VehicleRepository vehicleRepository;
+    private final VehicleReservationService vehicleReservationService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Three statements per order: the conditional UPDATE that reserves the vehicle, one projection
+    // SELECT for its price and summary, and the order INSERT. Customer and seller are never loaded;
+    // their foreign keys prove they exist.
+    @Transactional
+    public SalesOrderResponse create(SalesOrderRequest request) {
+        VehicleReservationResponse reservation = vehicleReservationService.reserve(request.vehicleId());
+        VehicleSummaryResponse vehicle = vehicleRepository.findSummaryById(request.vehicleId())
+                .orElseThrow(() -> new VehicleNotFoundException(request.vehicleId().toString()));
+
+        SalesOrder order = SalesOrder.builder()
+                .customer(entityManager.getReference(Customer.class, request.customerId()))
+                .seller(entityManager.getReference(Seller.class, request.sellerId()))
+                .vehicle(entityManager.getReference(Vehicle.class, request.vehicleId()))
+                .totalValue(vehicle.price())
+                .status(OrderStatus.AWAITING_PAYMENT)
+                .paymentDeadline(reservation.reservedUntil())
+                .build();
+        try {
+            salerOrderRepository.saveAndFlush(order);
+        } catch (DataIntegrityViolationException ex) {
+            throw translate(ex, request);
+        }
+        eventPublisher.publishEvent(DeadlineScheduledEvent.orderPayment(order.getId(), order.getPaymentDeadline()));
+        eventPublisher.publishEvent(OrderStatusChangedEvent.created(order.getId(), request.sellerId(),
+                order.getCreationDate(), order.getTotalValue(), order.getStatus()));
+
+        return SalesOrderResponse.builder()
+                .id(order.getId())
+                .creationDate(order.getCreationDate())
+                .totalValue(order.getTotalValue())
+                .status(order.getStatus())
+                .seller(SellerSummaryResponse.builder().id(request.sellerId()).build())
+                .customer(CustomerSummaryResponse.builder().id(request.customerId()).build())
+                .vehicle(vehicle)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<UUID, List<SalesOrderResponse>> findRecentBySellers(Collection<UUID> sellerIds, int perSeller) {
+        if (sellerIds.isEmpty() || perSeller <= 0) {
+            return new HashMap<>();
+        }
+        return salerOrderRepository.findRecentBySellerIds(sellerIds, perSeller)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        order -> order.getSeller().getId(),
+                        Collectors.mapping(this::convertToResponse, Collectors.toList())
+                ));
+    }
+
+    public boolean hasSales(UUID sellerId) {
+        return salerOrderRepository.existsBySellerId(sellerId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesOrderResponse> findAllBySeller(UUID sellerId) {
+        return salerOrderRepository.findAllBySellerId(sellerId)
+                .stream()
+                .map(this::convertToResponse)
+                .toList();
+    }
+
+    private RuntimeException translate(DataIntegrityViolationException ex, SalesOrderRequest request) {
+        String violated = UniqueKeyGuard.violatedConstraint(ex);
+        if (violated != null && violated.contains(CUSTOMER_FOREIGN_KEY)) {
+            return new CustomerNotFoundException(request.customerId().toString());
+        }
+        if (violated != null && violated.contains(SELLER_FOREIGN_KEY)) {
+            return new SellerNotFoundException(request.sellerId().toString());
+        }
+        return ex;
+    }
+
+    protected SalesOrderResponse convertToResponse(SalesOrder order) {
+        return SalesOrderResponse.builder()
+                .id(order.getId())
+                .creationDate(order.getCreationDate())
+                .conclusionDate(order.getConclusionDate())
+                .totalValue(order.getTotalValue())
+                .status(order.getStatus())
+                .seller(convertToSellerSummary(order.getSeller()))
+                .customer(convertToCustomerSummary(order.getCustomer()))
+                .vehicle(convertToVehicleSummary(order.getVehicle()))
+                .payment(convertToPaymentResponse(order.getPayment()))
+                .build();
+    }
+
+    private SellerSummaryResponse convertToSellerSummary(Seller seller) {
+        if (seller == null) {
+            return null;
+        }
+        return SellerSummaryResponse.builder()
+                .id(seller.getId())
+                .registrationNumber(seller.getRegistrationNumber())
+                .name(seller.getUser().getName())
+                .email(seller.getUser().getEmail())
+                .build();
+    }
+
+    private CustomerSummaryResponse convertToCustomerSummary(Customer customer) {
+        if (customer == null) {
+            return null;
+        }
+        return CustomerSummaryResponse.builder()
+                .id(customer.getId())
+                .name(customer.getUser().getName())
+                .email(customer.getUser().getEmail())
+                .phone(customer.getPhone())
+                .build();
+    }
+
+    private VehicleSummaryResponse convertToVehicleSummary(Vehicle vehicle) {
+        if (vehicle == null) {
+            return null;
+        }
+        return VehicleSummaryResponse.builder()
+                .id(vehicle.getId())
+                .brand(vehicle.getBrand())
+                .model(vehicle.getModel())
+                .yearManufacture(vehicle.getYearManufacture())
+                .yearModel(vehicle.getYearModel())
+                .price(vehicle.getPrice())
+                .build();
+    }
+
+    private PaymentResponse convertToPaymentResponse(Payment payment) {
+        if (payment == null) {
+            return null;
+        }
+        return PaymentResponse.builder()
+                .id(payment.getId())
+                .method(payment.getMethod())
+                .status(payment.getStatus())
+                .price(payment.getPrice())
+                .paymentDate(payment.getPaymentDate())
+                .salesOrderId(payment.getSalesOrder().getId())
+                .build();
+    }
+}
@@ -1,22 +1,29 @@
 package com.drivefleet.drivefleet.service;
 
+import com.drivefleet.drivefleet.config.SellerListingProperties;
+import com.drivefleet.drivefleet.domain.dto.page.CursorPage;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderResponse;
 import com.drivefleet.drivefleet.domain.dto.seller.SellerRequest;
 import com.drivefleet.drivefleet.domain.dto.seller.SellerResponse;
-import com.drivefleet.drivefleet.domain.entities.SalesOrder;
+import com.drivefleet.drivefleet.domain.dto.seller.SellerSummaryResponse;
+import com.drivefleet.drivefleet.domain.dto.user.ExclusionReport;
 import com.drivefleet.drivefleet.domain.entities.Seller;
 import com.drivefleet.drivefleet.domain.entities.User;
 import com.drivefleet.drivefleet.domain.enums.UserStatus;
 import com.drivefleet.drivefleet.exceptions.SellerCannotBeExcludedException;
 import com.drivefleet.drivefleet.exceptions.UserNotFoundIdException;
 import com.drivefleet.drivefleet.repository.SellerRepository;
+import com.drivefleet.drivefleet.repository.projection.SellerSalesSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
@@ -25,39 +32,95 @@ public class SellerService {
     private final SellerRepository sellerRepository;
     private final UserService userService;
     private final SalesOrderService salesOrderService;
+    private final SellerListingProperties listingProperties;
+    private final RegistrationNumberAllocator registrationNumberAllocator;
 
-    public List<SellerResponse> listAllSellers() {
-        return sellerRepository.findAllActive(UserStatus.ACTIVE)
-                .stream()
-                .map(this::convertToResponse)
-                .toList();
+    @Transactional(readOnly = true)
+    public CursorPage<SellerResponse> listAllSellers(String cursor, Integer pageSize, boolean includeSales) {
+        int size = listingProperties.resolvePageSize(pageSize);
+        UUID after = CursorCodec.decode(cursor);
+
+        Limit limit = Limit.of(size + 1);
+        List<Seller> sellers = after == null
+                ? sellerRepository.findFirstPage(UserStatus.ACTIVE, limit)
+                : sellerRepository.findPageAfter(UserStatus.ACTIVE, after, limit);
+
+        boolean hasNext = sellers.size() > size;
+        List<Seller> page = hasNext ? sellers.subList(0, size) : sellers;
+
+        Map<UUID, List<SalesOrderResponse>> sales = includeSales
+                ? salesOrderService.findRecentBySellers(
+                        page.stream().map(Seller::getId).toList(),
+                        listingProperties.salesPerSeller())
+                : Map.of();
+
+        return CursorPage.<SellerResponse>builder()
+                .items(page.stream()
+                        .map(seller -> convertToResponse(seller, sales.getOrDefault(seller.getId(), List.of())))
+                        .toList())
+                .size(page.size())
+                .nextCursor(hasNext ? CursorCodec.encode(page.getLast().getId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<SellerSummaryResponse> listSellerSummaries(String cursor, Integer pageSize) {
+        int size = listingProperties.resolvePageSize(pageSize);
+        UUID after = CursorCodec.decode(cursor);
+
+        List<SellerSalesSummary> summaries = sellerRepository.findSalesSummaries(
+                UserStatus.ACTIVE, after, Limit.of(size + 1)
+        );
+
+        boolean hasNext = summaries.size() > size;
+        List<SellerSalesSummary> page = hasNext ? summaries.subList(0, size) : summaries;
+
+        return CursorPage.<SellerSummaryResponse>builder()
+                .items(page.stream().map(this::convertToSummary).toList())
+                .size(page.size())
+                .nextCursor(hasNext ? CursorCodec.encode(page.getLast().getSellerId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesOrderResponse> listSales(UUID id) {
+        ensureExists(id);
+        return salesOrderService.findAllBySeller(id);
     }
 
     public SellerResponse create(SellerRequest request) {
         User user = userService.create(request.user());
         Seller seller = Seller.builder()
-                .registrationNumber(generateRegistrationNumber())
+                .registrationNumber(registrationNumberAllocator.next())
                 .user(user)
                 .sales(new ArrayList<>())
                 .build();
         sellerRepository.save(seller);
-        return convertToResponse(seller);
+        return convertToResponse(seller, List.of());
     }
 
     @Transactional
     public void deleteById(UUID id) {
         Seller seller = ensureExists(id);
-        if (seller.getSales() == null || !seller.getSales().isEmpty()) {
+        if (salesOrderService.hasSales(id)) {
             throw new SellerCannotBeExcludedException(id.toString());
         }
         userService.deleteById(seller.getUser().getId());
     }
 
+    @Transactional
+    public ExclusionReport excludeAll(Collection<UUID> ids) {
+        return userService.excludeAll(ids, sellerRepository::lockExclusionStates,
+                sellerRepository::excludeUsersWithoutSales);
+    }
+
     @Transactional
     public SellerResponse update(UUID id, SellerRequest request) {
         Seller seller = ensureExists(id);
         userService.update(seller.getUser().getId(), request.user());
-        return convertToResponse(seller);
+        return convertToResponse(seller, salesOrderService.findAllBySeller(id));
     }
 
     private Seller ensureExists(UUID id) {
@@ -65,28 +128,24 @@ public class SellerService {
                 .orElseThrow(() -> new UserNotFoundIdException(id.toString()));
     }
 
-    private SellerResponse convertToResponse(Seller seller) {
+    protected SellerResponse convertToResponse(Seller seller, List<SalesOrderResponse> sales) {
         return SellerResponse.builder()
                 .id(seller.getId())
                 .registrationNumber(seller.getRegistrationNumber())
                 .user(userService.convertToResponse(seller.getUser()))
-                .sales(
-                        seller.getSales() == null || seller.getSales().isEmpty()
-                                ? List.of()
-                                : seller.getSales()
-                                .stream()
-                                .map(salesOrderService::convertToResponse)
-                                .toList()
-                )
+                .sales(sales)
                 .build();
     }
 
-    private Long generateRegistrationNumber() {
-        Long number;
-        do {
-            number = ThreadLocalRandom.current()
-                    .nextLong(10_000_000L, 99_999_999L);
-        } while (sellerRepository.existsByRegistrationNumber(number));
-        return number;
+    private SellerSummaryResponse convertToSummary(SellerSalesSummary summary) {
+        return SellerSummaryResponse.builder()
+                .id(summary.getSellerId())
+                .registrationNumber(summary.getRegistrationNumber())
+                .name(summary.getName())
+                .email(summary.getEmail())
+                .salesCount(summary.getSalesCount())
+                .totalValue(summary.getTotalValue())
+                .lastSaleDate(summary.getLastSaleDate())
+                .build();
     }
 }
@@ -0,0 +1,64 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.exceptions.CpfAlreadyInUseException;
+import com.drivefleet.drivefleet.exceptions.DomainException;
+import com.drivefleet.drivefleet.exceptions.EmailAlreadyInUseException;
+import com.drivefleet.drivefleet.exceptions.PhoneAlreadyInUseException;
+import com.drivefleet.drivefleet.exceptions.PlateAlreadyInUseException;
+import lombok.Builder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class UniqueKeyGuard {
+
+    private static final Map<String, Function<Keys, DomainException>> CONSTRAINTS = Map.of(
+            "UK_USER_EMAIL", keys -> new EmailAlreadyInUseException(keys.email()),
+            "UK_CUSTOMER_CPF", keys -> new CpfAlreadyInUseException(keys.cpf()),
+            "UK_CUSTOMER_PHONE", keys -> new PhoneAlreadyInUseException(keys.phone()),
+            "UK_VEHICLE_PLATE", keys -> new PlateAlreadyInUseException(keys.plate())
+    );
+
+    @Builder
+    public record Keys(String email, Long cpf, Long phone, String plate) {}
+
+    // The write must flush so unique index violations surface here rather than at commit
+    public <T> T write(Keys keys, Supplier<T> writer) {
+        try {
+            return writer.get();
+        } catch (DataIntegrityViolationException ex) {
+            throw translate(ex, keys);
+        }
+    }
+
+    public RuntimeException translate(DataIntegrityViolationException ex, Keys keys) {
+        String violated = violatedConstraint(ex);
+        if (violated != null) {
+            for (Map.Entry<String, Function<Keys, DomainException>> constraint : CONSTRAINTS.entrySet()) {
+                if (violated.contains(constraint.getKey())) {
+                    return constraint.getValue().apply(keys);
+                }
+            }
+        }
+        return ex;
+    }
+
+    static String violatedConstraint(DataIntegrityViolationException ex) {
+        Throwable cause = ex;
+        while (cause != null) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toUpperCase(Locale.ROOT);
+            }
+            cause = cause.getCause();
+        }
+        String message = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        return message == null ? null : message.toUpperCase(Locale.ROOT);
+    }
+}
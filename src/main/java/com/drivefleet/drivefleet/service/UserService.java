@@ -1,32 +1,44 @@
 package com.drivefleet.drivefleet.service;
 
+import com.drivefleet.drivefleet.domain.dto.user.ExclusionReport;
 import com.drivefleet.drivefleet.domain.dto.user.UserRequest;
 import com.drivefleet.drivefleet.domain.dto.user.UserResponse;
 import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.enums.ExclusionOutcome;
 import com.drivefleet.drivefleet.domain.enums.UserStatus;
-import com.drivefleet.drivefleet.exceptions.EmailAlreadyInUseException;
 import com.drivefleet.drivefleet.exceptions.UserHasBeenExcludedException;
 import com.drivefleet.drivefleet.exceptions.UserNotFoundEmailException;
 import com.drivefleet.drivefleet.exceptions.UserNotFoundIdException;
 import com.drivefleet.drivefleet.repository.UserRepository;
+import com.drivefleet.drivefleet.repository.projection.ExclusionState;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    // Bounds the IN lists and the number of rows locked by a single statement
+    private static final int EXCLUSION_BATCH_SIZE = 500;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UniqueKeyGuard uniqueKeyGuard;
 
     @Transactional
     public User create(UserRequest request) {
-        validateEmailAlreadyExists(request.email());
-
         User newUser = User.builder()
                 .name(request.name())
                 .email(request.email())
@@ -35,7 +47,7 @@ public class UserService {
                 .status(UserStatus.ACTIVE)
                 .build();
 
-        return userRepository.save(newUser);
+        return uniqueKeyGuard.write(emailKey(request.email()), () -> userRepository.saveAndFlush(newUser));
     }
 
     @Transactional
@@ -43,15 +55,14 @@ public class UserService {
         User user = ensureExists(id);
 
         ensureActive(user);
-        if (!user.getEmail().equals(request.email())) {
-            validateEmailAlreadyExists(request.email());
-        }
 
         user.setName(request.name());
         user.setEmail(request.email());
-        user.setPassword(passwordEncoder.encode(request.password()));
+        if (passwordChanged(request.password(), user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(request.password()));
+        }
 
-        userRepository.save(user);
+        uniqueKeyGuard.write(emailKey(request.email()), () -> userRepository.saveAndFlush(user));
     }
 
     @Transactional
@@ -62,6 +73,51 @@ public class UserService {
         user.setStatus(UserStatus.EXCLUDED);
     }
 
+    @Transactional
+    public ExclusionReport excludeAll(Collection<UUID> ids) {
+        return excludeAll(ids, userRepository::lockExclusionStates, userRepository::excludeAll);
+    }
+
+    // The states are read under a row lock, so the outcome reported for each id is what the update then
+    // does; ids are handled in batches, each one a locking read followed by a single UPDATE
+    ExclusionReport excludeAll(Collection<UUID> ids,
+                               Function<Collection<UUID>, List<ExclusionState>> lockStates,
+                               ToIntFunction<Collection<UUID>> exclude) {
+        List<UUID> requested = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<UUID, ExclusionOutcome> outcomes = new LinkedHashMap<>();
+        requested.forEach(id -> outcomes.put(id, ExclusionOutcome.NOT_FOUND));
+
+        long excluded = 0;
+        for (int from = 0; from < requested.size(); from += EXCLUSION_BATCH_SIZE) {
+            List<UUID> batch = requested.subList(from, Math.min(from + EXCLUSION_BATCH_SIZE, requested.size()));
+            List<UUID> eligible = new ArrayList<>();
+            for (ExclusionState state : lockStates.apply(batch)) {
+                ExclusionOutcome outcome = outcomeOf(state);
+                outcomes.put(state.getId(), outcome);
+                if (outcome == ExclusionOutcome.EXCLUDED) {
+                    eligible.add(state.getId());
+                }
+            }
+            if (!eligible.isEmpty()) {
+                excluded += exclude.applyAsInt(eligible);
+            }
+        }
+
+        return ExclusionReport.builder()
+                .requested(requested.size())
+                .excluded(excluded)
+                .outcomes(outcomes)
+                .build();
+    }
+
+    private ExclusionOutcome outcomeOf(ExclusionState state) {
+        if (state.getStatus() == UserStatus.EXCLUDED) {
+            return ExclusionOutcome.ALREADY_EXCLUDED;
+        }
+        return state.getHasSales() ? ExclusionOutcome.HAS_SALES : ExclusionOutcome.EXCLUDED;
+    }
+
+    @Transactional(readOnly = true)
     public UserResponse findById(UUID id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundIdException(id.toString()));
@@ -70,6 +126,7 @@ public class UserService {
         return convertToResponse(user);
     }
 
+    @Transactional(readOnly = true)
     public UserResponse findByEmail(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundEmailException(email));
@@ -84,10 +141,13 @@ public class UserService {
         }
     }
 
-    private void validateEmailAlreadyExists(String emailToCheck) {
-        if (userRepository.existsByEmail(emailToCheck)) {
-            throw new EmailAlreadyInUseException(emailToCheck);
-        }
+    private boolean passwordChanged(String rawPassword, String storedHash) {
+        return !passwordEncoder.matches(rawPassword, storedHash)
+                || passwordEncoder.upgradeEncoding(storedHash);
+    }
+
+    private UniqueKeyGuard.Keys emailKey(String email) {
+        return UniqueKeyGuard.Keys.builder().email(email).build();
     }
 
     private User ensureExists(UUID id) {
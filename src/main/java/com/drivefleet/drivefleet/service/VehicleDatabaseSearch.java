@@ -0,0 +1,134 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSearchRequest;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSearchResponse;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSummaryResponse;
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.inventory.VehicleInventoryIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Cold-start path of the vehicle search, kept in its own bean so callers go through the
+// transactional proxy and the read-only routing applies.
+@Service
+@RequiredArgsConstructor
+public class VehicleDatabaseSearch {
+
+    private final EntityManager entityManager;
+
+    // Same filters, ordering and facet semantics as the index, answered with one page query,
+    // one count and one GROUP BY per facet.
+    @Transactional(readOnly = true)
+    public VehicleSearchResponse search(VehicleSearchRequest request) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> pageQuery = cb.createTupleQuery();
+        Root<Vehicle> vehicle = pageQuery.from(Vehicle.class);
+        Path<Comparable<Object>> sortPath = vehicle.get(switch (request.sort()) {
+            case PRICE -> "price";
+            case YEAR_MODEL -> "yearModel";
+            case MILEAGE -> "mileage";
+        });
+        pageQuery.multiselect(vehicle.get("id"), vehicle.get("brand"), vehicle.get("model"),
+                        vehicle.get("yearManufacture"), vehicle.get("yearModel"), vehicle.get("price"))
+                .where(predicates(cb, vehicle, request, null))
+                .orderBy(request.descending() ? cb.desc(sortPath) : cb.asc(sortPath), cb.asc(vehicle.get("id")));
+
+        List<VehicleSummaryResponse> items = entityManager.createQuery(pageQuery)
+                .setFirstResult(request.page() * request.size())
+                .setMaxResults(request.size())
+                .getResultStream()
+                .map(this::convertToResponse)
+                .toList();
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Vehicle> counted = countQuery.from(Vehicle.class);
+        countQuery.select(cb.count(counted)).where(predicates(cb, counted, request, null));
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        for (String facet : List.of(VehicleInventoryIndex.BRAND, VehicleInventoryIndex.MODEL,
+                VehicleInventoryIndex.COLOR, VehicleInventoryIndex.STATUS)) {
+            facets.put(facet, countFacet(cb, request, facet));
+        }
+
+        return VehicleSearchResponse.builder()
+                .items(items)
+                .total(entityManager.createQuery(countQuery).getSingleResult())
+                .facets(facets)
+                .fromIndex(false)
+                .build();
+    }
+
+    private Map<String, Long> countFacet(CriteriaBuilder cb, VehicleSearchRequest request, String facet) {
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Vehicle> vehicle = query.from(Vehicle.class);
+        Path<Object> value = vehicle.get(facet);
+        query.multiselect(value, cb.count(vehicle))
+                .where(predicates(cb, vehicle, request, facet))
+                .groupBy(value);
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            counts.put(String.valueOf(row.get(0)), row.get(1, Long.class));
+        }
+        return counts;
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, Root<Vehicle> vehicle, VehicleSearchRequest request,
+                                   String excludedFacet) {
+        List<Predicate> predicates = new ArrayList<>();
+        addIn(predicates, vehicle, VehicleInventoryIndex.BRAND, request.brands(), excludedFacet);
+        addIn(predicates, vehicle, VehicleInventoryIndex.MODEL, request.models(), excludedFacet);
+        addIn(predicates, vehicle, VehicleInventoryIndex.COLOR, request.colors(), excludedFacet);
+        addIn(predicates, vehicle, VehicleInventoryIndex.STATUS, request.statuses(), excludedFacet);
+        addRange(cb, predicates, vehicle.get("yearModel"), request.minYearModel(), request.maxYearModel());
+        addRange(cb, predicates, vehicle.get("price"), request.minPrice(), request.maxPrice());
+        addRange(cb, predicates, vehicle.get("mileage"), request.minMileage(), request.maxMileage());
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private void addIn(List<Predicate> predicates, Root<Vehicle> vehicle, String attribute,
+                       Collection<?> values, String excludedFacet) {
+        if (!values.isEmpty() && !attribute.equals(excludedFacet)) {
+            predicates.add(vehicle.get(attribute).in(values));
+        }
+    }
+
+    private <T extends Comparable<? super T>> void addRange(CriteriaBuilder cb, List<Predicate> predicates,
+                                                            Expression<T> attribute, T min, T max) {
+        if (min != null) {
+            predicates.add(cb.greaterThanOrEqualTo(attribute, min));
+        }
+        if (max != null) {
+            predicates.add(cb.lessThanOrEqualTo(attribute, max));
+        }
+    }
+
+    private VehicleSummaryResponse convertToResponse(Tuple row) {
+        return VehicleSummaryResponse.builder()
+                .id(row.get(0, UUID.class))
+                .brand(row.get(1, String.class))
+                .model(row.get(2, String.class))
+                .yearManufacture(row.get(3, Integer.class))
+                .yearModel(row.get(4, Integer.class))
+                .price(row.get(5, BigDecimal.class))
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.VehicleReservationProperties;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleReservationResponse;
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+import com.drivefleet.drivefleet.exceptions.ReservationExpiredException;
+import com.drivefleet.drivefleet.exceptions.VehicleNotAvailableException;
+import com.drivefleet.drivefleet.exceptions.VehicleNotFoundException;
+import com.drivefleet.drivefleet.expiry.DeadlineScheduledEvent;
+import com.drivefleet.drivefleet.inventory.VehicleStatusChangedEvent;
+import com.drivefleet.drivefleet.repository.VehicleRepository;
+import com.drivefleet.drivefleet.repository.projection.VehicleReservationState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Every transition is a single conditional UPDATE, so no row lock outlives the statement that takes it
+// and two buyers can never both see the vehicle as free.
+@Service
+public class VehicleReservationService {
+
+    private final VehicleRepository vehicleRepository;
+    private final VehicleReservationProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public VehicleReservationService(VehicleRepository vehicleRepository,
+                                     VehicleReservationProperties properties,
+                                     ApplicationEventPublisher eventPublisher,
+                                     PlatformTransactionManager transactionManager) {
+        this.vehicleRepository = vehicleRepository;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public VehicleReservationResponse reserve(UUID vehicleId) {
+        return withRetry(status -> {
+            Instant now = Instant.now();
+            UUID token = UUID.randomUUID();
+            Instant until = now.plus(properties.ttl());
+
+            if (vehicleRepository.reserve(vehicleId, token, until, now) == 0) {
+                currentState(vehicleId);
+                throw new VehicleNotAvailableException(vehicleId.toString());
+            }
+            eventPublisher.publishEvent(new VehicleStatusChangedEvent(vehicleId, VehicleStatus.RESERVED));
+            eventPublisher.publishEvent(DeadlineScheduledEvent.vehicleReservation(vehicleId, until));
+
+            return VehicleReservationResponse.builder()
+                    .vehicleId(vehicleId)
+                    .reservationToken(token)
+                    .reservedUntil(until)
+                    .build();
+        });
+    }
+
+    public void confirmSale(UUID vehicleId, UUID token) {
+        withRetry(status -> {
+            Instant now = Instant.now();
+            if (vehicleRepository.markSold(vehicleId, token, now) == 0) {
+                VehicleReservationState state = currentState(vehicleId);
+                if (state.getStatus() == VehicleStatus.RESERVED && token.equals(state.getReservationToken())) {
+                    throw new ReservationExpiredException(vehicleId.toString());
+                }
+                throw new VehicleNotAvailableException(vehicleId.toString());
+            }
+            eventPublisher.publishEvent(new VehicleStatusChangedEvent(vehicleId, VehicleStatus.SOLD));
+            return null;
+        });
+    }
+
+    public void release(UUID vehicleId, UUID token) {
+        withRetry(status -> {
+            if (vehicleRepository.release(vehicleId, token) == 0) {
+                currentState(vehicleId);
+                throw new VehicleNotAvailableException(vehicleId.toString());
+            }
+            eventPublisher.publishEvent(new VehicleStatusChangedEvent(vehicleId, VehicleStatus.AVAILABLE));
+            return null;
+        });
+    }
+
+    private VehicleReservationState currentState(UUID vehicleId) {
+        return vehicleRepository.findReservationStateById(vehicleId)
+                .orElseThrow(() -> new VehicleNotFoundException(vehicleId.toString()));
+    }
+
+    // Lock timeouts and deadlocks are retried only when this call owns the transaction; inside a
+    // caller's transaction the failure has already marked it rollback-only.
+    private <T> T withRetry(TransactionCallback<T> action) {
+        boolean joined = TransactionSynchronizationManager.isActualTransactionActive();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(action);
+            } catch (ConcurrencyFailureException ex) {
+                if (joined || attempt >= properties.maxAttempts()) {
+                    throw ex;
+                }
+                backOff(attempt);
+            }
+        }
+    }
+
+    private void backOff(int attempt) {
+        try {
+            Thread.sleep(properties.retryBackoff().multipliedBy(attempt));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying vehicle reservation", ex);
+        }
+    }
+}
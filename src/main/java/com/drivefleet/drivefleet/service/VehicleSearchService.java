@@ -0,0 +1,24 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSearchRequest;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSearchResponse;
+import com.drivefleet.drivefleet.inventory.VehicleInventoryIndex;
+import com.drivefleet.drivefleet.inventory.VehicleInventoryIndexer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class VehicleSearchService {
+
+    private final VehicleInventoryIndexer vehicleInventoryIndexer;
+    private final VehicleDatabaseSearch vehicleDatabaseSearch;
+
+    public VehicleSearchResponse search(VehicleSearchRequest request) {
+        VehicleInventoryIndex index = vehicleInventoryIndexer.index();
+        if (index.isReady()) {
+            return index.search(request);
+        }
+        return vehicleDatabaseSearch.search(request);
+    }
+}
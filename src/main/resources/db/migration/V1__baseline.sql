@@ -0,0 +1,87 @@
+-- Schema as ddl-auto created it before migrations were introduced. Databases created that way are
+-- baselined at this version and only run what follows, so every later change lives in V2 onwards.
+-- Keys take the configured uuid-storage layout (${uuid_type}); ddl-auto databases keep their CHAR(36)
+-- keys until db/scripts/uuid-char36-to-binary16.sql converts them.
+
+CREATE TABLE tb_user
+(
+    id       ${uuid_type}                        NOT NULL,
+    name     VARCHAR(255)                        NOT NULL,
+    email    VARCHAR(255)                        NOT NULL,
+    password VARCHAR(255)                        NOT NULL,
+    role     ENUM ('ADMIN', 'SELLER', 'CUSTOMER') NOT NULL,
+    status   ENUM ('ACTIVE', 'EXCLUDED')          NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE tb_seller
+(
+    id                  ${uuid_type} NOT NULL,
+    user_id             ${uuid_type} NOT NULL,
+    registration_number BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (user_id),
+    UNIQUE (registration_number),
+    FOREIGN KEY (user_id) REFERENCES tb_user (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tb_customer
+(
+    id      ${uuid_type} NOT NULL,
+    user_id ${uuid_type} NOT NULL,
+    cpf     BIGINT       NOT NULL,
+    phone   BIGINT       NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (user_id),
+    UNIQUE (cpf),
+    UNIQUE (phone),
+    FOREIGN KEY (user_id) REFERENCES tb_user (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tb_vehicle
+(
+    id               ${uuid_type}                          NOT NULL,
+    brand            VARCHAR(255)                          NOT NULL,
+    model            VARCHAR(255)                          NOT NULL,
+    year_manufacture INT                                   NOT NULL,
+    year_model       INT                                   NOT NULL,
+    plate            VARCHAR(255)                          NOT NULL,
+    color            VARCHAR(255)                          NOT NULL,
+    mileage          DECIMAL(10, 2)                        NOT NULL,
+    price            DECIMAL(10, 2)                        NOT NULL,
+    status           ENUM ('AVAILABLE', 'SOLD', 'RESERVED') NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (plate)
+) ENGINE = InnoDB;
+
+CREATE TABLE tb_sales_order
+(
+    id              ${uuid_type}                                                 NOT NULL,
+    creation_date   DATE                                                         NOT NULL,
+    conclusion_date DATE                                                         NULL,
+    total_value     DECIMAL(10, 2)                                               NOT NULL,
+    status          ENUM ('PENDING', 'AWAITING_PAYMENT', 'FINALIZED', 'CANCELED') NOT NULL,
+    customer_id     ${uuid_type}                                                 NOT NULL,
+    seller_id       ${uuid_type}                                                 NOT NULL,
+    vehicle_id      ${uuid_type}                                                 NULL,
+    PRIMARY KEY (id),
+    UNIQUE (vehicle_id),
+    FOREIGN KEY (customer_id) REFERENCES tb_customer (id),
+    FOREIGN KEY (seller_id) REFERENCES tb_seller (id),
+    FOREIGN KEY (vehicle_id) REFERENCES tb_vehicle (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tb_payment
+(
+    id             ${uuid_type}                           NOT NULL,
+    payment_date   DATE                                   NULL,
+    price          DECIMAL(10, 2)                         NOT NULL,
+    method         ENUM ('PIX', 'CARD', 'BILL')            NOT NULL,
+    status         ENUM ('PENDING', 'APPROVED', 'DECLINED') NOT NULL,
+    sales_order_id ${uuid_type}                           NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (sales_order_id),
+    FOREIGN KEY (sales_order_id) REFERENCES tb_sales_order (id)
+) ENGINE = InnoDB;
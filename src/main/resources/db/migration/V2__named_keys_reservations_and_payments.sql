@@ -0,0 +1,151 @@
+-- Everything the mappings gained on top of the ddl-auto schema. Runs on fresh databases after V1 and on
+-- databases baselined at V1, so constraints are looked up by column instead of by their generated name.
+
+-- Enums are stored as their names, so adding a value needs no migration.
+ALTER TABLE tb_user
+    MODIFY role VARCHAR(32) NOT NULL,
+    MODIFY status VARCHAR(32) NOT NULL;
+ALTER TABLE tb_vehicle
+    MODIFY status VARCHAR(32) NOT NULL;
+ALTER TABLE tb_sales_order
+    MODIFY status VARCHAR(32) NOT NULL;
+ALTER TABLE tb_payment
+    MODIFY method VARCHAR(32) NOT NULL,
+    MODIFY status VARCHAR(32) NOT NULL;
+
+DELIMITER //
+
+-- Unique-key and foreign-key violations are translated by constraint name, so the keys ddl-auto named
+-- UK<hash>/FK<hash> (or MySQL named after their column) get the names the mappings declare.
+CREATE PROCEDURE drivefleet_name_unique_key(IN target_table VARCHAR(64), IN target_column VARCHAR(64),
+                                            IN key_name VARCHAR(64))
+BEGIN
+    DECLARE current_name VARCHAR(64) DEFAULT NULL;
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET current_name = NULL;
+
+    SELECT s.INDEX_NAME
+    INTO current_name
+    FROM information_schema.STATISTICS s
+    WHERE s.TABLE_SCHEMA = DATABASE()
+      AND s.TABLE_NAME = target_table
+      AND s.NON_UNIQUE = 0
+      AND s.INDEX_NAME <> 'PRIMARY'
+    GROUP BY s.INDEX_NAME
+    HAVING COUNT(*) = 1 AND MAX(s.COLUMN_NAME) = target_column
+    LIMIT 1;
+
+    IF current_name IS NULL THEN
+        SET @ddl = CONCAT('ALTER TABLE ', target_table, ' ADD CONSTRAINT ', key_name,
+                          ' UNIQUE (', target_column, ')');
+    ELSEIF current_name <> key_name THEN
+        SET @ddl = CONCAT('ALTER TABLE ', target_table, ' RENAME INDEX `', current_name, '` TO ', key_name);
+    ELSE
+        SET @ddl = NULL;
+    END IF;
+
+    IF @ddl IS NOT NULL THEN
+        PREPARE ddl_statement FROM @ddl;
+        EXECUTE ddl_statement;
+        DEALLOCATE PREPARE ddl_statement;
+    END IF;
+END //
+
+CREATE PROCEDURE drivefleet_name_foreign_key(IN target_table VARCHAR(64), IN target_column VARCHAR(64),
+                                             IN referenced_table VARCHAR(64), IN key_name VARCHAR(64))
+BEGIN
+    DECLARE current_name VARCHAR(64) DEFAULT NULL;
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET current_name = NULL;
+
+    SELECT k.CONSTRAINT_NAME
+    INTO current_name
+    FROM information_schema.KEY_COLUMN_USAGE k
+    WHERE k.TABLE_SCHEMA = DATABASE()
+      AND k.TABLE_NAME = target_table
+      AND k.COLUMN_NAME = target_column
+      AND k.REFERENCED_TABLE_NAME = referenced_table
+    LIMIT 1;
+
+    IF current_name IS NULL OR current_name <> key_name THEN
+        IF current_name IS NOT NULL THEN
+            SET @ddl = CONCAT('ALTER TABLE ', target_table, ' DROP FOREIGN KEY `', current_name, '`');
+            PREPARE ddl_statement FROM @ddl;
+            EXECUTE ddl_statement;
+            DEALLOCATE PREPARE ddl_statement;
+        END IF;
+        SET @ddl = CONCAT('ALTER TABLE ', target_table, ' ADD CONSTRAINT ', key_name, ' FOREIGN KEY (',
+                          target_column, ') REFERENCES ', referenced_table, ' (id)');
+        PREPARE ddl_statement FROM @ddl;
+        EXECUTE ddl_statement;
+        DEALLOCATE PREPARE ddl_statement;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL drivefleet_name_unique_key('tb_user', 'email', 'UK_USER_EMAIL');
+CALL drivefleet_name_unique_key('tb_seller', 'user_id', 'UK_SELLER_USER');
+CALL drivefleet_name_unique_key('tb_seller', 'registration_number', 'UK_SELLER_REGISTRATION_NUMBER');
+CALL drivefleet_name_unique_key('tb_customer', 'user_id', 'UK_CUSTOMER_USER');
+CALL drivefleet_name_unique_key('tb_customer', 'cpf', 'UK_CUSTOMER_CPF');
+CALL drivefleet_name_unique_key('tb_customer', 'phone', 'UK_CUSTOMER_PHONE');
+CALL drivefleet_name_unique_key('tb_vehicle', 'plate', 'UK_VEHICLE_PLATE');
+CALL drivefleet_name_unique_key('tb_sales_order', 'vehicle_id', 'UK_SALES_ORDER_VEHICLE');
+CALL drivefleet_name_unique_key('tb_payment', 'sales_order_id', 'UK_PAYMENT_SALES_ORDER');
+
+-- Dropping a foreign key keeps its index, so with checks off re-adding it under its name copies no rows
+SET FOREIGN_KEY_CHECKS = 0;
+CALL drivefleet_name_foreign_key('tb_seller', 'user_id', 'tb_user', 'FK_SELLER_USER');
+CALL drivefleet_name_foreign_key('tb_customer', 'user_id', 'tb_user', 'FK_CUSTOMER_USER');
+CALL drivefleet_name_foreign_key('tb_sales_order', 'customer_id', 'tb_customer', 'FK_SALES_ORDER_CUSTOMER');
+CALL drivefleet_name_foreign_key('tb_sales_order', 'seller_id', 'tb_seller', 'FK_SALES_ORDER_SELLER');
+CALL drivefleet_name_foreign_key('tb_sales_order', 'vehicle_id', 'tb_vehicle', 'FK_SALES_ORDER_VEHICLE');
+CALL drivefleet_name_foreign_key('tb_payment', 'sales_order_id', 'tb_sales_order', 'FK_PAYMENT_SALES_ORDER');
+SET FOREIGN_KEY_CHECKS = 1;
+
+DROP PROCEDURE drivefleet_name_unique_key;
+DROP PROCEDURE drivefleet_name_foreign_key;
+
+-- Time-limited reservations: conditional UPDATEs bump the version and carry the holder's token.
+ALTER TABLE tb_vehicle
+    ADD COLUMN version           BIGINT       NOT NULL DEFAULT 0,
+    ADD COLUMN reserved_until    DATETIME(6)  NULL,
+    ADD COLUMN reservation_token ${uuid_type} NULL;
+ALTER TABLE tb_vehicle
+    ALTER COLUMN version DROP DEFAULT;
+
+-- Orders awaiting payment are canceled once this passes; older orders carry none and never expire.
+ALTER TABLE tb_sales_order
+    ADD COLUMN payment_deadline DATETIME(6) NULL;
+
+-- Blocks of seller registration numbers reserved per node.
+CREATE TABLE tb_number_sequence
+(
+    name       VARCHAR(64) NOT NULL,
+    next_value BIGINT      NOT NULL,
+    CONSTRAINT PK_NUMBER_SEQUENCE PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- Leader election for node-wide schedulers such as the expiry sweeper.
+CREATE TABLE tb_scheduler_lease
+(
+    name       VARCHAR(64)  NOT NULL,
+    owner      VARCHAR(128) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    CONSTRAINT PK_SCHEDULER_LEASE PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- Outcome of each Idempotency-Key; payment_id stays null only while the claiming transaction is open.
+CREATE TABLE tb_idempotency_record
+(
+    idempotency_key VARCHAR(128)   NOT NULL,
+    fingerprint     VARCHAR(64)    NOT NULL,
+    created_at      DATETIME(6)    NOT NULL,
+    payment_id      ${uuid_type}   NULL,
+    sales_order_id  ${uuid_type}   NOT NULL,
+    price           DECIMAL(10, 2) NOT NULL,
+    method          VARCHAR(32)    NOT NULL,
+    status          VARCHAR(32)    NOT NULL,
+    payment_date    DATE           NULL,
+    CONSTRAINT PK_IDEMPOTENCY_RECORD PRIMARY KEY (idempotency_key),
+    INDEX IDX_IDEMPOTENCY_RECORD_CREATED_AT (created_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,17 @@
+-- Active-seller listings and lookups filter users by status.
+CREATE INDEX IDX_USER_STATUS ON tb_user (status);
+
+-- Per-seller and per-customer order history, newest first. The trailing id makes the order total and
+-- lets the "latest N per seller" subquery count rows from the index alone. Each index also serves
+-- its foreign key.
+CREATE INDEX IDX_SALES_ORDER_SELLER_CREATION ON tb_sales_order (seller_id, creation_date, id);
+CREATE INDEX IDX_SALES_ORDER_CUSTOMER_CREATION ON tb_sales_order (customer_id, creation_date, id);
+
+-- Catch-up only looks at orders still awaiting payment.
+CREATE INDEX IDX_SALES_ORDER_STATUS_PAYMENT_DEADLINE ON tb_sales_order (status, payment_deadline);
+
+-- Database-backed search filters by status and ranges or sorts by price.
+CREATE INDEX IDX_VEHICLE_STATUS_PRICE ON tb_vehicle (status, price);
+
+-- Catch-up only looks at reserved vehicles.
+CREATE INDEX IDX_VEHICLE_STATUS_RESERVED_UNTIL ON tb_vehicle (status, reserved_until);
@@ -0,0 +1,12 @@
+-- Derived totals per seller, order creation day and bucket. The table can be emptied and rebuilt from
+-- tb_sales_order at any time, so it carries no foreign keys.
+CREATE TABLE tb_sales_rollup
+(
+    seller_id   ${uuid_type}   NOT NULL,
+    bucket_date DATE           NOT NULL,
+    dimension   VARCHAR(32)    NOT NULL,
+    bucket      VARCHAR(32)    NOT NULL,
+    order_count BIGINT         NOT NULL,
+    total_value DECIMAL(16, 2) NOT NULL,
+    CONSTRAINT PK_SALES_ROLLUP PRIMARY KEY (seller_id, bucket_date, dimension, bucket)
+) ENGINE = InnoDB;
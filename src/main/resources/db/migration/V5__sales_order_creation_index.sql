@@ -0,0 +1,3 @@
+-- Exports read a creation-date range in (creation_date, id) order; the index hands rows to the cursor
+-- already sorted instead of filesorting the whole range before the first one is sent.
+CREATE INDEX IDX_SALES_ORDER_CREATION ON tb_sales_order (creation_date, id);
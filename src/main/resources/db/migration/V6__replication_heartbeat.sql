@@ -0,0 +1,10 @@
+-- Stamped on the primary and read back from the replica to measure replication lag. The stamp is
+-- epoch milliseconds so no time zone conversion sits between the two sides.
+CREATE TABLE tb_replication_heartbeat
+(
+    id   TINYINT NOT NULL,
+    beat BIGINT  NOT NULL,
+    CONSTRAINT PK_REPLICATION_HEARTBEAT PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO tb_replication_heartbeat (id, beat) VALUES (1, 0);
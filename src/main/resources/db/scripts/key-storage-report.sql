@@ -0,0 +1,18 @@
+-- Data and index footprint per table; run before and after switching the key storage mode.
+
+SELECT TABLE_NAME,
+       TABLE_ROWS,
+       ROUND(DATA_LENGTH / 1024 / 1024, 2)  AS data_mb,
+       ROUND(INDEX_LENGTH / 1024 / 1024, 2) AS secondary_index_mb
+FROM information_schema.TABLES
+WHERE TABLE_SCHEMA = DATABASE()
+  AND TABLE_NAME LIKE 'TB\_%'
+ORDER BY TABLE_NAME;
+
+SELECT TABLE_NAME,
+       INDEX_NAME,
+       ROUND(STAT_VALUE * @@innodb_page_size / 1024 / 1024, 2) AS size_mb
+FROM mysql.innodb_index_stats
+WHERE DATABASE_NAME = DATABASE()
+  AND STAT_NAME = 'size'
+ORDER BY TABLE_NAME, INDEX_NAME;
@@ -0,0 +1,59 @@
+-- Converts a schema created with CHAR(36) keys to the BINARY(16) layout.
+-- Run once, with the application stopped, before starting it with uuid-storage: BINARY.
+-- UUID_TO_BIN is used without the swap flag so the bytes match what Hibernate writes.
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE tb_user MODIFY id VARBINARY(36) NOT NULL;
+UPDATE tb_user SET id = UUID_TO_BIN(id);
+ALTER TABLE tb_user MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE tb_seller MODIFY id VARBINARY(36) NOT NULL, MODIFY user_id VARBINARY(36) NOT NULL;
+UPDATE tb_seller SET id = UUID_TO_BIN(id), user_id = UUID_TO_BIN(user_id);
+ALTER TABLE tb_seller MODIFY id BINARY(16) NOT NULL, MODIFY user_id BINARY(16) NOT NULL;
+
+ALTER TABLE tb_customer MODIFY id VARBINARY(36) NOT NULL, MODIFY user_id VARBINARY(36) NOT NULL;
+UPDATE tb_customer SET id = UUID_TO_BIN(id), user_id = UUID_TO_BIN(user_id);
+ALTER TABLE tb_customer MODIFY id BINARY(16) NOT NULL, MODIFY user_id BINARY(16) NOT NULL;
+
+ALTER TABLE tb_vehicle MODIFY id VARBINARY(36) NOT NULL, MODIFY reservation_token VARBINARY(36) NULL;
+UPDATE tb_vehicle
+SET id                = UUID_TO_BIN(id),
+    reservation_token = IF(reservation_token IS NULL, NULL, UUID_TO_BIN(reservation_token));
+ALTER TABLE tb_vehicle MODIFY id BINARY(16) NOT NULL, MODIFY reservation_token BINARY(16) NULL;
+
+ALTER TABLE tb_sales_order
+    MODIFY id VARBINARY(36) NOT NULL,
+    MODIFY customer_id VARBINARY(36) NOT NULL,
+    MODIFY seller_id VARBINARY(36) NOT NULL,
+    MODIFY vehicle_id VARBINARY(36) NULL;
+UPDATE tb_sales_order
+SET id          = UUID_TO_BIN(id),
+    customer_id = UUID_TO_BIN(customer_id),
+    seller_id   = UUID_TO_BIN(seller_id),
+    vehicle_id  = IF(vehicle_id IS NULL, NULL, UUID_TO_BIN(vehicle_id));
+ALTER TABLE tb_sales_order
+    MODIFY id BINARY(16) NOT NULL,
+    MODIFY customer_id BINARY(16) NOT NULL,
+    MODIFY seller_id BINARY(16) NOT NULL,
+    MODIFY vehicle_id BINARY(16) NULL;
+
+ALTER TABLE tb_payment MODIFY id VARBINARY(36) NOT NULL, MODIFY sales_order_id VARBINARY(36) NOT NULL;
+UPDATE tb_payment SET id = UUID_TO_BIN(id), sales_order_id = UUID_TO_BIN(sales_order_id);
+ALTER TABLE tb_payment MODIFY id BINARY(16) NOT NULL, MODIFY sales_order_id BINARY(16) NOT NULL;
+
+-- Tables added by migrations take the key layout that was configured when they were created
+ALTER TABLE tb_idempotency_record MODIFY payment_id VARBINARY(36) NULL, MODIFY sales_order_id VARBINARY(36) NOT NULL;
+UPDATE tb_idempotency_record
+SET payment_id     = IF(payment_id IS NULL, NULL, UUID_TO_BIN(payment_id)),
+    sales_order_id = UUID_TO_BIN(sales_order_id);
+ALTER TABLE tb_idempotency_record MODIFY payment_id BINARY(16) NULL, MODIFY sales_order_id BINARY(16) NOT NULL;
+
+ALTER TABLE tb_sales_rollup MODIFY seller_id VARBINARY(36) NOT NULL;
+UPDATE tb_sales_rollup SET seller_id = UUID_TO_BIN(seller_id);
+ALTER TABLE tb_sales_rollup MODIFY seller_id BINARY(16) NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
+
+ANALYZE TABLE tb_user, tb_seller, tb_customer, tb_vehicle, tb_sales_order, tb_payment, tb_idempotency_record,
+    tb_sales_rollup;
@@ -0,0 +1,105 @@
+package com.drivefleet.drivefleet.analytics;
+
+import com.drivefleet.drivefleet.domain.dto.analytics.SalesAnalyticsResponse;
+import com.drivefleet.drivefleet.domain.dto.analytics.SalesPeriodResponse;
+import com.drivefleet.drivefleet.domain.entities.SalesRollup;
+import com.drivefleet.drivefleet.domain.entities.SalesRollupId;
+import com.drivefleet.drivefleet.domain.enums.AnalyticsGranularity;
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
+import com.drivefleet.drivefleet.domain.enums.RollupDimension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SalesRollupIndexTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2025, 3, 1);
+    private static final LocalDate MARCH_20 = LocalDate.of(2025, 3, 20);
+    private static final LocalDate APRIL_2 = LocalDate.of(2025, 4, 2);
+
+    private SalesRollupIndex index;
+    private UUID alice;
+    private UUID bob;
+
+    @BeforeEach
+    void setUp() {
+        index = new SalesRollupIndex();
+        alice = UUID.randomUUID();
+        bob = UUID.randomUUID();
+        finalized(alice, MARCH_1, "100000.00", PaymentMethod.PIX);
+        finalized(alice, MARCH_20, "50000.50", PaymentMethod.CARD);
+        finalized(alice, APRIL_2, "80000.00", PaymentMethod.PIX);
+        finalized(bob, MARCH_1, "70000.00", PaymentMethod.BILL);
+        index.add(bob, MARCH_1, OrderStatus.AWAITING_PAYMENT, 1, new BigDecimal("90000.00"));
+    }
+
+    @Test
+    @DisplayName("Should report one period per day with revenue from finalized orders only")
+    void query_ByDay() {
+        SalesAnalyticsResponse response = index.query(null, MARCH_1, MARCH_20, AnalyticsGranularity.DAY);
+
+        assertThat(response.periods()).extracting(SalesPeriodResponse::period).containsExactly(MARCH_1, MARCH_20);
+        SalesPeriodResponse first = response.periods().getFirst();
+        assertThat(first.revenue().orders()).isEqualTo(2);
+        assertThat(first.revenue().value()).isEqualByComparingTo("170000.00");
+        assertThat(first.revenue().averageTicket()).isEqualByComparingTo("85000.00");
+        assertThat(first.byStatus().get(OrderStatus.AWAITING_PAYMENT).orders()).isEqualTo(1);
+        assertThat(first.byPaymentMethod()).containsOnlyKeys(PaymentMethod.PIX, PaymentMethod.BILL);
+        assertThat(response.revenue().value()).isEqualByComparingTo("220000.50");
+    }
+
+    @Test
+    @DisplayName("Should fold day buckets into months and filter by seller")
+    void query_ByMonthForSeller() {
+        SalesAnalyticsResponse response = index.query(alice, MARCH_1, APRIL_2, AnalyticsGranularity.MONTH);
+
+        assertThat(response.periods()).extracting(SalesPeriodResponse::period)
+                .containsExactly(MARCH_1, LocalDate.of(2025, 4, 1));
+        SalesPeriodResponse march = response.periods().getFirst();
+        assertThat(march.revenue().orders()).isEqualTo(2);
+        assertThat(march.revenue().value()).isEqualByComparingTo("150000.50");
+        assertThat(march.byPaymentMethod().get(PaymentMethod.CARD).value()).isEqualByComparingTo("50000.50");
+        assertThat(march.byStatus()).doesNotContainKey(OrderStatus.AWAITING_PAYMENT);
+        assertThat(response.revenue().orders()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should net out a status change and drop buckets that reach zero")
+    void add_NetsOutTransitions() {
+        index.add(bob, MARCH_1, OrderStatus.AWAITING_PAYMENT, -1, new BigDecimal("-90000.00"));
+        index.add(bob, MARCH_1, OrderStatus.CANCELED, 1, new BigDecimal("90000.00"));
+
+        SalesPeriodResponse period = index.query(bob, MARCH_1, MARCH_1, AnalyticsGranularity.DAY)
+                .periods().getFirst();
+
+        assertThat(period.byStatus()).containsOnlyKeys(OrderStatus.FINALIZED, OrderStatus.CANCELED);
+        assertThat(period.revenue().value()).isEqualByComparingTo("70000.00");
+    }
+
+    @Test
+    @DisplayName("Should replace every bucket with the persisted rollups")
+    void replaceAll_DiscardsPreviousState() {
+        index.replaceAll(List.of(SalesRollup.builder()
+                .id(new SalesRollupId(bob, APRIL_2, RollupDimension.ORDER_STATUS, OrderStatus.FINALIZED.name()))
+                .orderCount(4L)
+                .totalValue(new BigDecimal("400000.00"))
+                .build()));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.query(alice, MARCH_1, APRIL_2, AnalyticsGranularity.DAY).periods()).isEmpty();
+        assertThat(index.query(null, MARCH_1, APRIL_2, AnalyticsGranularity.DAY).revenue().orders()).isEqualTo(4);
+    }
+
+    private void finalized(UUID sellerId, LocalDate day, String value, PaymentMethod method) {
+        index.add(sellerId, day, OrderStatus.FINALIZED, 1, new BigDecimal(value));
+        index.add(sellerId, day, method, 1, new BigDecimal(value));
+    }
+}
@@ -0,0 +1,239 @@
+package com.drivefleet.drivefleet.analytics;
+
+import com.drivefleet.drivefleet.domain.dto.analytics.SalesPeriodResponse;
+import com.drivefleet.drivefleet.domain.entities.Customer;
+import com.drivefleet.drivefleet.domain.entities.Payment;
+import com.drivefleet.drivefleet.domain.entities.SalesOrder;
+import com.drivefleet.drivefleet.domain.entities.SalesRollup;
+import com.drivefleet.drivefleet.domain.entities.SalesRollupId;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.enums.AnalyticsGranularity;
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
+import com.drivefleet.drivefleet.domain.enums.PaymentStatus;
+import com.drivefleet.drivefleet.domain.enums.RollupDimension;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.repository.CustomerRepository;
+import com.drivefleet.drivefleet.repository.PaymentRepository;
+import com.drivefleet.drivefleet.repository.SalerOrderRepository;
+import com.drivefleet.drivefleet.repository.SalesRollupRepository;
+import com.drivefleet.drivefleet.repository.SellerRepository;
+import com.drivefleet.drivefleet.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SalesRollupUpdaterTest {
+
+    @Autowired
+    private SalesRollupRepository rollupRepository;
+
+    @Autowired
+    private SalerOrderRepository salerOrderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SalesRollupUpdater updater;
+    private TransactionTemplate orderTransaction;
+    private LocalDate today;
+
+    @BeforeEach
+    void setup() {
+        updater = new SalesRollupUpdater(rollupRepository, salerOrderRepository, entityManager, transactionManager);
+        orderTransaction = new TransactionTemplate(transactionManager);
+        today = LocalDate.now();
+    }
+
+    @AfterEach
+    void cleanup() {
+        rollupRepository.deleteAll();
+        paymentRepository.deleteAll();
+        salerOrderRepository.deleteAll();
+        customerRepository.deleteAll();
+        sellerRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    // Each call stands in for an order service publishing the event from its own transaction
+    private void commitOrderChange(OrderStatusChangedEvent event) {
+        orderTransaction.executeWithoutResult(status -> updater.onOrderStatusChanged(event));
+    }
+
+    private OrderStatusChangedEvent created(UUID sellerId, String totalValue) {
+        return OrderStatusChangedEvent.created(UUID.randomUUID(), sellerId, today, new BigDecimal(totalValue),
+                OrderStatus.AWAITING_PAYMENT);
+    }
+
+    private SalesRollup row(UUID sellerId, RollupDimension dimension, Enum<?> bucket) {
+        return rollupRepository.findById(new SalesRollupId(sellerId, today, dimension, bucket.name())).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should count every concurrent order of the same bucket exactly once")
+    void onOrderStatusChanged_ConcurrentOrdersShareOneRow() throws Exception {
+        int orders = 6;
+        UUID sellerId = UUID.randomUUID();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> commits = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(orders)) {
+            for (int i = 0; i < orders; i++) {
+                commits.add(executor.submit(() -> {
+                    start.await();
+                    commitOrderChange(created(sellerId, "100.00"));
+                    return null;
+                }));
+            }
+            start.countDown();
+        }
+
+        for (Future<?> commit : commits) {
+            commit.get();
+        }
+        SalesRollup rollup = row(sellerId, RollupDimension.ORDER_STATUS, OrderStatus.AWAITING_PAYMENT);
+        assertThat(rollup.getOrderCount()).isEqualTo(orders);
+        assertThat(rollup.getTotalValue()).isEqualByComparingTo("600.00");
+        assertThat(rollupRepository.count()).isEqualTo(1);
+        SalesPeriodResponse period = updater.index().query(sellerId, today, today, AnalyticsGranularity.DAY)
+                .periods().getFirst();
+        assertThat(period.byStatus().get(OrderStatus.AWAITING_PAYMENT).orders()).isEqualTo(orders);
+    }
+
+    @Test
+    @DisplayName("Should leave the rollup and the index untouched when the order transaction rolls back")
+    void onOrderStatusChanged_RolledBackOrder() {
+        UUID sellerId = UUID.randomUUID();
+        commitOrderChange(created(sellerId, "100.00"));
+
+        orderTransaction.executeWithoutResult(status -> {
+            updater.onOrderStatusChanged(created(sellerId, "250.00"));
+            status.setRollbackOnly();
+        });
+
+        SalesRollup rollup = row(sellerId, RollupDimension.ORDER_STATUS, OrderStatus.AWAITING_PAYMENT);
+        assertThat(rollup.getOrderCount()).isEqualTo(1);
+        assertThat(rollup.getTotalValue()).isEqualByComparingTo("100.00");
+        assertThat(updater.index().query(sellerId, today, today, AnalyticsGranularity.DAY)
+                .periods().getFirst().byStatus().get(OrderStatus.AWAITING_PAYMENT).orders()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should recreate a row removed by a rebuild while the order was being written")
+    void onOrderStatusChanged_AfterRowRemoved() {
+        UUID sellerId = UUID.randomUUID();
+        commitOrderChange(created(sellerId, "100.00"));
+        rollupRepository.deleteAllInBatch();
+
+        commitOrderChange(created(sellerId, "40.00"));
+
+        SalesRollup rollup = row(sellerId, RollupDimension.ORDER_STATUS, OrderStatus.AWAITING_PAYMENT);
+        assertThat(rollup.getOrderCount()).isEqualTo(1);
+        assertThat(rollup.getTotalValue()).isEqualByComparingTo("40.00");
+    }
+
+    @Test
+    @DisplayName("Should rebuild status and payment method rollups from the orders")
+    void rebuild_FromOrders() {
+        UUID sellerId = orderTransaction.execute(status -> {
+            Seller seller = sellerRepository.save(Seller.builder()
+                    .registrationNumber(10000001L)
+                    .user(user("seller@email.com", UserRole.SELLER))
+                    .build());
+            Customer customer = customerRepository.save(Customer.builder()
+                    .cpf(12345678901L)
+                    .phone(11999990000L)
+                    .address("Rua A, 100")
+                    .user(user("customer@email.com", UserRole.CUSTOMER))
+                    .build());
+            order(seller, customer, OrderStatus.AWAITING_PAYMENT, "90000.00");
+            order(seller, customer, OrderStatus.AWAITING_PAYMENT, "10000.00");
+            SalesOrder finalized = order(seller, customer, OrderStatus.FINALIZED, "120000.00");
+            paymentRepository.save(Payment.builder()
+                    .price(finalized.getTotalValue())
+                    .method(PaymentMethod.PIX)
+                    .status(PaymentStatus.APPROVED)
+                    .paymentDate(today)
+                    .salesOrder(finalized)
+                    .build());
+            return seller.getId();
+        });
+        // Stale rows the rebuild has to drop
+        commitOrderChange(created(sellerId, "1.00"));
+        commitOrderChange(OrderStatusChangedEvent.canceled(UUID.randomUUID(), sellerId, today,
+                new BigDecimal("5.00")));
+
+        updater.rebuild();
+
+        assertThat(rollupRepository.count()).isEqualTo(3);
+        SalesRollup awaiting = row(sellerId, RollupDimension.ORDER_STATUS, OrderStatus.AWAITING_PAYMENT);
+        assertThat(awaiting.getOrderCount()).isEqualTo(2);
+        assertThat(awaiting.getTotalValue()).isEqualByComparingTo("100000.00");
+        SalesRollup finalized = row(sellerId, RollupDimension.ORDER_STATUS, OrderStatus.FINALIZED);
+        assertThat(finalized.getOrderCount()).isEqualTo(1);
+        SalesRollup pix = row(sellerId, RollupDimension.PAYMENT_METHOD, PaymentMethod.PIX);
+        assertThat(pix.getOrderCount()).isEqualTo(1);
+        assertThat(pix.getTotalValue()).isEqualByComparingTo("120000.00");
+        assertThat(updater.index().query(sellerId, today, today, AnalyticsGranularity.DAY).revenue().value())
+                .isEqualByComparingTo("120000.00");
+    }
+
+    private SalesOrder order(Seller seller, Customer customer, OrderStatus status, String totalValue) {
+        return salerOrderRepository.save(SalesOrder.builder()
+                .customer(customer)
+                .seller(seller)
+                .totalValue(new BigDecimal(totalValue))
+                .status(status)
+                .build());
+    }
+
+    private User user(String email, UserRole role) {
+        return userRepository.save(User.builder()
+                .name("Test User")
+                .email(email)
+                .password("encoded")
+                .role(role)
+                .status(UserStatus.ACTIVE)
+                .build());
+    }
+}
@@ -0,0 +1,229 @@
+package com.drivefleet.drivefleet.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Two in-memory H2 databases stand in for the primary and its replica; each answers with its own name
+class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        lagMonitor = new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(2));
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor,
+                new ReadYourWritesTracker(Duration.ofSeconds(5)));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.close();
+        replica.close();
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:routing-" + name);
+        config.setPoolName("routing-" + name);
+        config.setMaximumPoolSize(2);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE tb_node (name VARCHAR(16))");
+        jdbc.update("INSERT INTO tb_node (name) VALUES (?)", name);
+        jdbc.execute("CREATE TABLE tb_replication_heartbeat (id TINYINT PRIMARY KEY, beat BIGINT NOT NULL)");
+        jdbc.update("INSERT INTO tb_replication_heartbeat (id, beat) VALUES (1, 0)");
+        return dataSource;
+    }
+
+    private void replicaBehindBy(Duration lag) {
+        new JdbcTemplate(replica).update("UPDATE tb_replication_heartbeat SET beat = ? WHERE id = 1",
+                System.currentTimeMillis() - lag.toMillis());
+        lagMonitor.check();
+    }
+
+    private String serviceRead() {
+        boolean previous = ReplicaRoutingDataSource.beginServiceRead();
+        try {
+            return readOnlyTransaction.execute(status -> node());
+        } finally {
+            ReplicaRoutingDataSource.endServiceRead(previous);
+        }
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM tb_node", String.class);
+    }
+
+    // Runs the call the way a request from a client holding the given cookies would
+    private String inRequest(MockHttpServletRequest request, MockHttpServletResponse response, Supplier<String> call)
+            throws Exception {
+        AtomicReference<String> result = new AtomicReference<>();
+        new ReadYourWritesFilter().doFilter(request, response, (req, res) -> result.set(call.get()));
+        return result.get();
+    }
+
+    private static MockHttpServletRequest requestWrittenAgo(Duration age) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE,
+                Long.toString(System.currentTimeMillis() - age.toMillis())));
+        return request;
+    }
+
+    private void signIn(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    @Test
+    @DisplayName("Should serve read-only service transactions from a caught-up replica")
+    void route_ServiceReadsToReplica() {
+        replicaBehindBy(Duration.ZERO);
+
+        String service = serviceRead();
+        String written = writeTransaction.execute(status -> node());
+        String readOnly = readOnlyTransaction.execute(status -> node());
+
+        assertThat(service).isEqualTo("replica");
+        assertThat(written).isEqualTo("primary");
+        assertThat(readOnly).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags or has never reported")
+    void route_FallsBackWhenLagging() {
+        assertThat(serviceRead()).isEqualTo("primary");
+
+        replicaBehindBy(Duration.ofSeconds(10));
+
+        assertThat(serviceRead()).isEqualTo("primary");
+        assertThat(lagMonitor.health().getDetails()).containsEntry("servingReads", false);
+
+        replicaBehindBy(Duration.ZERO);
+
+        assertThat(serviceRead()).isEqualTo("replica");
+        assertThat(lagMonitor.health().getDetails()).containsEntry("servingReads", true);
+    }
+
+    @Test
+    @DisplayName("Should keep a user's reads on the primary right after their own committed write")
+    void route_ReadsYourWrites() {
+        replicaBehindBy(Duration.ZERO);
+        signIn("alice");
+        writeTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE tb_node SET name = name"));
+
+        assertThat(serviceRead()).isEqualTo("primary");
+
+        signIn("bob");
+        assertThat(serviceRead()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should not pin a user to the primary for a write that rolled back")
+    void route_IgnoresRolledBackWrites() {
+        replicaBehindBy(Duration.ZERO);
+        signIn("alice");
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE tb_node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(serviceRead()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should hand an anonymous client's committed write back as a cookie")
+    void route_SetsWriteCookie() throws Exception {
+        replicaBehindBy(Duration.ZERO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        String node = inRequest(new MockHttpServletRequest(), response, () -> {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE tb_node SET name = name"));
+            return serviceRead();
+        });
+
+        assertThat(node).isEqualTo("primary");
+        Cookie cookie = response.getCookie(ReadYourWritesTracker.COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should keep a client on the primary for a write another node took, as told by its cookie")
+    void route_ReadsYourWritesFromCookie() throws Exception {
+        replicaBehindBy(Duration.ZERO);
+
+        assertThat(inRequest(requestWrittenAgo(Duration.ofSeconds(1)), new MockHttpServletResponse(),
+                this::serviceRead)).isEqualTo("primary");
+        assertThat(inRequest(requestWrittenAgo(Duration.ofSeconds(10)), new MockHttpServletResponse(),
+                this::serviceRead)).isEqualTo("replica");
+
+        MockHttpServletRequest tampered = new MockHttpServletRequest();
+        tampered.setCookies(new Cookie(ReadYourWritesTracker.COOKIE, "not-a-time"));
+        assertThat(inRequest(tampered, new MockHttpServletResponse(), this::serviceRead)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should route programmatic read-only transactions run on another thread as service reads")
+    void route_ServiceReadsOnAnotherThread() throws Exception {
+        replicaBehindBy(Duration.ZERO);
+        Executor fresh = ReplicaRoutingDataSource.serviceReads();
+        AtomicReference<Executor> sticky = new AtomicReference<>();
+        inRequest(requestWrittenAgo(Duration.ZERO), new MockHttpServletResponse(), () -> {
+            sticky.set(ReplicaRoutingDataSource.serviceReads());
+            return null;
+        });
+
+        assertThat(readOnlyOn(fresh)).isEqualTo("replica");
+        assertThat(readOnlyOn(sticky.get())).isEqualTo("primary");
+    }
+
+    private String readOnlyOn(Executor serviceReads) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            AtomicReference<String> node = new AtomicReference<>();
+            serviceReads.execute(() -> node.set(readOnlyTransaction.execute(status -> node())));
+            return node.get();
+        }).get();
+    }
+}
@@ -0,0 +1,85 @@
+package com.drivefleet.drivefleet.expiry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HierarchicalTimerWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("Should fire a deadline on the first tick at or after it, never before")
+    void advance_FiresOnDeadlineTick() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1000, 8, 3, START);
+        wheel.schedule("a", START + 2_500);
+
+        assertThat(wheel.advance(START + 2_999)).isEmpty();
+        assertThat(wheel.advance(START + 3_000)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cascade deadlines beyond the first level and beyond the whole wheel range")
+    void advance_CascadesFromUpperLevels() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1000, 4, 2, START);
+        wheel.schedule("second-level", START + 9_000);
+        wheel.schedule("beyond-range", START + 50_000);
+
+        assertThat(wheel.advance(START + 8_000)).isEmpty();
+        assertThat(wheel.advance(START + 9_000)).containsExactly("second-level");
+        assertThat(wheel.advance(START + 49_000)).isEmpty();
+        assertThat(wheel.advance(START + 50_000)).containsExactly("beyond-range");
+    }
+
+    @Test
+    @DisplayName("Should fire overdue deadlines on the next tick and honour cancel and reschedule")
+    void schedule_HandlesOverdueCancelAndReschedule() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1000, 8, 3, START);
+        wheel.schedule("overdue", START - 60_000);
+        wheel.schedule("cancelled", START + 1_000);
+        wheel.schedule("moved", START + 1_000);
+        wheel.cancel("cancelled");
+        wheel.schedule("moved", START + 20_000);
+
+        assertThat(wheel.advance(START + 1_000)).containsExactly("overdue");
+        assertThat(wheel.advance(START + 19_000)).isEmpty();
+        assertThat(wheel.advance(START + 20_000)).containsExactly("moved");
+    }
+
+    @Test
+    @DisplayName("Should fire every random deadline exactly once and on time")
+    void advance_MatchesBruteForceSchedule() {
+        HierarchicalTimerWheel<Integer> wheel = new HierarchicalTimerWheel<>(1000, 8, 3, START);
+        Random random = new Random(42);
+        Map<Integer, Long> expected = new HashMap<>();
+        List<Integer> fired = new ArrayList<>();
+        long now = START;
+
+        for (int step = 0; step < 5_000; step++) {
+            if (random.nextInt(3) == 0) {
+                int key = random.nextInt(300);
+                long deadline = now + 1_000 + random.nextInt(random.nextInt(10) == 0 ? 2_000_000 : 60_000);
+                wheel.schedule(key, deadline);
+                expected.put(key, deadline);
+            }
+            now += random.nextInt(1_500);
+            for (Integer key : wheel.advance(now)) {
+                assertThat(expected.remove(key)).isNotNull().isLessThanOrEqualTo(now);
+                fired.add(key);
+            }
+            long currentTick = now / 1000 * 1000;
+            assertThat(expected.values()).allMatch(deadline -> deadline > currentTick);
+        }
+
+        assertThat(fired).isNotEmpty();
+        assertThat(wheel.size()).isEqualTo(expected.size());
+    }
+}
@@ -0,0 +1,64 @@
+package com.drivefleet.drivefleet.expiry;
+
+import com.drivefleet.drivefleet.config.ExpiryProperties;
+import com.drivefleet.drivefleet.repository.SchedulerLeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LeaderLeaseTest {
+
+    @Autowired
+    private SchedulerLeaseRepository leaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanup() {
+        leaseRepository.deleteAll();
+    }
+
+    private LeaderLease lease(Duration duration) {
+        ExpiryProperties properties = new ExpiryProperties(true, Duration.ofSeconds(1), 64, 4, 200,
+                "test-lease", duration, Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(5));
+        return new LeaderLease(leaseRepository, properties, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should grant the lease to a single node while it is held")
+    void tryAcquire_GrantsSingleLeader() {
+        LeaderLease first = lease(Duration.ofMinutes(1));
+        LeaderLease second = lease(Duration.ofMinutes(1));
+
+        assertThat(first.tryAcquire()).isTrue();
+        assertThat(second.tryAcquire()).isFalse();
+        assertThat(first.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should let another node take over once the lease expires")
+    void tryAcquire_TakesOverExpiredLease() throws InterruptedException {
+        LeaderLease first = lease(Duration.ofMillis(50));
+        LeaderLease second = lease(Duration.ofMillis(50));
+
+        assertThat(first.tryAcquire()).isTrue();
+        Thread.sleep(80);
+
+        assertThat(second.tryAcquire()).isTrue();
+        assertThat(first.tryAcquire()).isFalse();
+    }
+}
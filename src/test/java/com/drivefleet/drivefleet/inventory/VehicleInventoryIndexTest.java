@@ -0,0 +1,183 @@
+package com.drivefleet.drivefleet.inventory;
+
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSearchRequest;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSearchResponse;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleSummaryResponse;
+import com.drivefleet.drivefleet.domain.enums.VehicleSortField;
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VehicleInventoryIndexTest {
+
+    private VehicleInventoryIndex index;
+    private UUID corolla;
+    private UUID civic;
+    private UUID hilux;
+
+    @BeforeEach
+    void setUp() {
+        index = new VehicleInventoryIndex();
+        corolla = UUID.randomUUID();
+        civic = UUID.randomUUID();
+        hilux = UUID.randomUUID();
+        index.beginSync();
+        index.applySnapshot(List.of(
+                document(corolla, "Toyota", "Corolla", 2022, "White", "15000.00", "120000.00", VehicleStatus.AVAILABLE),
+                document(civic, "Honda", "Civic", 2021, "Black", "30000.00", "110000.00", VehicleStatus.AVAILABLE),
+                document(hilux, "Toyota", "Hilux", 2019, "White", "80000.00", "180000.00", VehicleStatus.SOLD)
+        ));
+        index.endSync();
+    }
+
+    @Test
+    @DisplayName("Should combine facet and range filters and sort the matches")
+    void search_FiltersAndSorts() {
+        VehicleSearchResponse response = index.search(VehicleSearchRequest.builder()
+                .brands(Set.of("Toyota", "Honda"))
+                .statuses(Set.of(VehicleStatus.AVAILABLE))
+                .maxMileage(new BigDecimal("50000"))
+                .sort(VehicleSortField.PRICE)
+                .descending(true)
+                .build());
+
+        assertThat(response.fromIndex()).isTrue();
+        assertThat(response.total()).isEqualTo(2);
+        assertThat(response.items()).extracting(VehicleSummaryResponse::id).containsExactly(corolla, civic);
+        assertThat(response.items().getFirst().price()).isEqualByComparingTo("120000.00");
+    }
+
+    @Test
+    @DisplayName("Should count each facet without applying its own selection")
+    void search_CountsFacetsDisjunctively() {
+        VehicleSearchResponse response = index.search(VehicleSearchRequest.builder()
+                .brands(Set.of("Toyota"))
+                .build());
+
+        assertThat(response.total()).isEqualTo(2);
+        assertThat(response.facets().get(VehicleInventoryIndex.BRAND))
+                .containsEntry("Toyota", 2L)
+                .containsEntry("Honda", 1L);
+        assertThat(response.facets().get(VehicleInventoryIndex.COLOR))
+                .containsOnlyKeys("White")
+                .containsEntry("White", 2L);
+        assertThat(response.facets().get(VehicleInventoryIndex.STATUS))
+                .containsEntry("AVAILABLE", 1L)
+                .containsEntry("SOLD", 1L);
+    }
+
+    @Test
+    @DisplayName("Should move vehicles between postings on update, status change and removal")
+    void writes_KeepPostingsConsistent() {
+        index.upsert(document(civic, "Honda", "Civic", 2021, "Red", "30000.00", "105000.00", VehicleStatus.AVAILABLE, 1));
+        index.upsert(document(corolla, "Toyota", "Corolla", 2022, "White", "15000.00", "120000.00", VehicleStatus.RESERVED, 1));
+        index.remove(hilux);
+
+        VehicleSearchResponse response = index.search(VehicleSearchRequest.builder().build());
+
+        assertThat(response.total()).isEqualTo(2);
+        assertThat(response.facets().get(VehicleInventoryIndex.COLOR))
+                .containsEntry("White", 1L)
+                .containsEntry("Red", 1L);
+        assertThat(response.facets().get(VehicleInventoryIndex.STATUS))
+                .containsEntry("AVAILABLE", 1L)
+                .containsEntry("RESERVED", 1L)
+                .doesNotContainKey("SOLD");
+        assertThat(response.items()).extracting(VehicleSummaryResponse::id).containsExactly(civic, corolla);
+    }
+
+    @Test
+    @DisplayName("Should not let the startup snapshot overwrite newer writes or resurrect deleted vehicles")
+    void sync_SkipsVehiclesWrittenDuringLoading() {
+        VehicleInventoryIndex loading = new VehicleInventoryIndex();
+        loading.beginSync();
+        loading.upsert(document(civic, "Honda", "Civic", 2021, "Red", "30000.00", "105000.00", VehicleStatus.AVAILABLE, 1));
+        loading.remove(hilux);
+
+        loading.applySnapshot(List.of(
+                document(civic, "Honda", "Civic", 2021, "Black", "30000.00", "110000.00", VehicleStatus.AVAILABLE),
+                document(hilux, "Toyota", "Hilux", 2019, "White", "80000.00", "180000.00", VehicleStatus.SOLD)
+        ));
+        loading.endSync();
+
+        VehicleSearchResponse response = loading.search(VehicleSearchRequest.builder().build());
+        assertThat(loading.isReady()).isTrue();
+        assertThat(response.total()).isEqualTo(1);
+        assertThat(response.facets().get(VehicleInventoryIndex.COLOR)).containsOnlyKeys("Red");
+    }
+
+    @Test
+    @DisplayName("Should keep status changes that arrive before the startup snapshot reaches the vehicle")
+    void sync_KeepsStatusChangedBeforeItsPageWasLoaded() {
+        VehicleInventoryIndex loading = new VehicleInventoryIndex();
+        loading.beginSync();
+        loading.upsert(document(hilux, "Toyota", "Hilux", 2019, "White", "80000.00", "180000.00", VehicleStatus.RESERVED, 2));
+
+        loading.applySnapshot(List.of(
+                document(hilux, "Toyota", "Hilux", 2019, "White", "80000.00", "180000.00", VehicleStatus.AVAILABLE, 1)
+        ));
+        loading.endSync();
+
+        assertThat(loading.search(VehicleSearchRequest.builder().build()).facets().get(VehicleInventoryIndex.STATUS))
+                .containsOnlyKeys("RESERVED");
+    }
+
+    @Test
+    @DisplayName("Should apply changes and deletions made elsewhere when resyncing, keeping vehicles added meanwhile")
+    void sync_ReconcilesWithDatabase() {
+        UUID added = UUID.randomUUID();
+        index.beginSync();
+        index.applySnapshot(List.of(
+                document(corolla, "Toyota", "Corolla", 2022, "White", "15000.00", "120000.00", VehicleStatus.RESERVED, 1),
+                document(civic, "Honda", "Civic", 2021, "Black", "30000.00", "110000.00", VehicleStatus.AVAILABLE)
+        ));
+        index.upsert(document(added, "Fiat", "Uno", 2015, "Blue", "90000.00", "30000.00", VehicleStatus.AVAILABLE));
+        int removed = index.endSync();
+
+        VehicleSearchResponse response = index.search(VehicleSearchRequest.builder().build());
+        assertThat(removed).isEqualTo(1);
+        assertThat(response.items()).extracting(VehicleSummaryResponse::id).containsExactlyInAnyOrder(corolla, civic, added);
+        assertThat(response.facets().get(VehicleInventoryIndex.STATUS))
+                .containsEntry("RESERVED", 1L)
+                .containsEntry("AVAILABLE", 2L);
+    }
+
+    @Test
+    @DisplayName("Should ignore a document older than the indexed version")
+    void upsert_IgnoresStaleVersion() {
+        index.upsert(document(corolla, "Toyota", "Corolla", 2022, "White", "15000.00", "120000.00", VehicleStatus.SOLD, 3));
+        index.upsert(document(corolla, "Toyota", "Corolla", 2022, "White", "15000.00", "120000.00", VehicleStatus.RESERVED, 2));
+
+        assertThat(index.search(VehicleSearchRequest.builder().build()).facets().get(VehicleInventoryIndex.STATUS))
+                .containsEntry("SOLD", 2L)
+                .doesNotContainKey("RESERVED");
+    }
+
+    @Test
+    @DisplayName("Should page past the last match without failing")
+    void search_ReturnsEmptyPage_WhenOffsetBeyondMatches() {
+        VehicleSearchResponse response = index.search(VehicleSearchRequest.builder().page(5).size(2).build());
+
+        assertThat(response.items()).isEmpty();
+        assertThat(response.total()).isEqualTo(3);
+    }
+
+    private VehicleDocument document(UUID id, String brand, String model, int year, String color,
+                                     String mileage, String price, VehicleStatus status) {
+        return document(id, brand, model, year, color, mileage, price, status, 0);
+    }
+
+    private VehicleDocument document(UUID id, String brand, String model, int year, String color,
+                                     String mileage, String price, VehicleStatus status, long version) {
+        return new VehicleDocument(id, brand, model, year, year, color,
+                new BigDecimal(mileage), new BigDecimal(price), status, version);
+    }
+}
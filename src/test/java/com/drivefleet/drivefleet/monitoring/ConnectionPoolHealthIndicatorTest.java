@@ -0,0 +1,66 @@
+package com.drivefleet.drivefleet.monitoring;
+
+import com.drivefleet.drivefleet.config.DataSourcePoolProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConnectionPoolHealthIndicatorTest {
+
+    private HikariDataSource dataSource;
+    private ConnectionPoolHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:pool-health");
+        config.setPoolName("pool-health");
+        config.setMaximumPoolSize(2);
+        config.setMinimumIdle(2);
+        dataSource = new HikariDataSource(config);
+        indicator = new ConnectionPoolHealthIndicator(dataSource, new DataSourcePoolProperties(0.9));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should report pool usage without flagging saturation while connections are free")
+    void health_ReportsIdlePool() throws Exception {
+        try (Connection ignored = dataSource.getConnection()) {
+            Health health = indicator.health();
+
+            assertThat(health.getStatus()).isEqualTo(Status.UP);
+            assertThat(health.getDetails())
+                    .containsEntry("pool", "pool-health")
+                    .containsEntry("active", 1)
+                    .containsEntry("maximum", 2)
+                    .containsEntry("saturated", false);
+        }
+    }
+
+    @Test
+    @DisplayName("Should flag saturation once every connection is checked out")
+    void health_FlagsSaturatedPool() throws Exception {
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            Health health = indicator.health();
+
+            assertThat(health.getStatus()).isEqualTo(Status.UP);
+            assertThat(health.getDetails())
+                    .containsEntry("active", 2)
+                    .containsEntry("idle", 0)
+                    .containsEntry("saturated", true);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.drivefleet.drivefleet.monitoring;
+
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.exceptions.UserNotFoundIdException;
+import com.drivefleet.drivefleet.repository.UserRepository;
+import com.drivefleet.drivefleet.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ServiceMetricsAspectTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserService userService;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new UserService(userRepository, null, null));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        userService = factory.getProxy();
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should time successful calls tagged with the caller's role")
+    void time_TagsSuccessWithRole() {
+        User user = userRepository.save(User.builder()
+                .name("Metrics User")
+                .email("metrics@test.com")
+                .password("encoded")
+                .role(UserRole.SELLER)
+                .status(UserStatus.ACTIVE)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "metrics@test.com", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        userService.findById(user.getId());
+
+        assertThat(meterRegistry.get("drivefleet.service.calls")
+                .tag("service", "UserService")
+                .tag("method", "findById")
+                .tag("role", "ADMIN")
+                .tag("outcome", "SUCCESS")
+                .tag("code", "none")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should tag failed calls with the domain error code")
+    void time_TagsDomainErrorCode() {
+        assertThatThrownBy(() -> userService.findById(UUID.randomUUID()))
+                .isInstanceOf(UserNotFoundIdException.class);
+
+        assertThat(meterRegistry.get("drivefleet.service.calls")
+                .tag("role", "anonymous")
+                .tag("outcome", "ERROR")
+                .tag("code", "USER-NOT-FOUND-404")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+}
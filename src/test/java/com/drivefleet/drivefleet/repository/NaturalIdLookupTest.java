@@ -0,0 +1,92 @@
+package com.drivefleet.drivefleet.repository;
+
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NaturalIdLookupTest {
+
+    private static final int LOOKUPS = 10;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        User user = userRepository.save(User.builder()
+                .name("Natural Id")
+                .email("natural@test.com")
+                .password("12345678")
+                .role(UserRole.SELLER)
+                .status(UserStatus.ACTIVE)
+                .build());
+        sellerRepository.save(Seller.builder().registrationNumber(42_000_000L).user(user).build());
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        sellerRepository.deleteAll();
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Should skip the database on repeated email lookups after the first hit")
+    void findByEmail_UsesNaturalIdCache() {
+        assertThat(userRepository.findByEmail("natural@test.com")).isPresent();
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            assertThat(userRepository.findByEmail("natural@test.com")).isPresent();
+        }
+
+        assertThat(statementsAfterFirstLookup).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThanOrEqualTo(LOOKUPS);
+    }
+
+    @Test
+    @DisplayName("Should skip the database on repeated registration number lookups after the first hit")
+    void findByRegistrationNumber_UsesNaturalIdCache() {
+        assertThat(sellerRepository.findByRegistrationNumber(42_000_000L)).isPresent();
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(sellerRepository.findByRegistrationNumber(42_000_000L)).isPresent();
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+    }
+}
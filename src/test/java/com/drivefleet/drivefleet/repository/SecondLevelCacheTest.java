@@ -0,0 +1,137 @@
+package com.drivefleet.drivefleet.repository;
+
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        userRepository.deleteAll();
+        vehicleRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private User createValidUser() {
+        return User.builder()
+                .name("Cached User")
+                .email("cached@test.com")
+                .password("12345678")
+                .role(UserRole.SELLER)
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    private Vehicle vehicle(String plate) {
+        return vehicleRepository.save(Vehicle.builder()
+                .brand("Toyota")
+                .model("Corolla")
+                .yearManufacture(2022)
+                .yearModel(2023)
+                .plate(plate)
+                .color("White")
+                .mileage(new BigDecimal("15000.00"))
+                .price(new BigDecimal("120000.00"))
+                .status(VehicleStatus.AVAILABLE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("findById is served from the second-level cache after the first load")
+    void findById_HitsSecondLevelCache() {
+        User saved = userRepository.save(createValidUser());
+        entityManagerFactory.getCache().evictAll();
+
+        userRepository.findById(saved.getId()).orElseThrow();
+        long queriesAfterFirstLoad = statistics.getPrepareStatementCount();
+        userRepository.findById(saved.getId()).orElseThrow();
+
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(queriesAfterFirstLoad);
+    }
+
+    @Test
+    @DisplayName("Updates through the repository refresh the cached entry")
+    void save_RefreshesCachedEntry() {
+        User saved = userRepository.save(createValidUser());
+        userRepository.findById(saved.getId()).orElseThrow();
+
+        saved.setName("Renamed");
+        userRepository.save(saved);
+
+        assertThat(userRepository.findById(saved.getId()).orElseThrow().getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    @DisplayName("Reservation updates evict only the vehicles they change from the second-level cache")
+    void reserve_EvictsOnlyTheReservedVehicle() {
+        UUID reservedId = vehicle("ABC1D23").getId();
+        UUID untouchedId = vehicle("XYZ9K87").getId();
+        List.of(reservedId, untouchedId).forEach(id -> vehicleRepository.findById(id).orElseThrow());
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(Vehicle.class, reservedId)).isTrue();
+
+        Instant now = Instant.now();
+        UUID token = UUID.randomUUID();
+        int reserved = new TransactionTemplate(transactionManager).execute(status ->
+                vehicleRepository.reserve(reservedId, token, now.plus(Duration.ofMinutes(15)), now));
+
+        assertThat(reserved).isEqualTo(1);
+        assertThat(cache.contains(Vehicle.class, reservedId)).isFalse();
+        assertThat(cache.contains(Vehicle.class, untouchedId)).isTrue();
+        Vehicle reloaded = vehicleRepository.findById(reservedId).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(VehicleStatus.RESERVED);
+        assertThat(reloaded.getReservationToken()).isEqualTo(token);
+        assertThat(reloaded.getVersion()).isEqualTo(1L);
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -102,23 +103,8 @@ class SellerRepositoryTest {
     }
 
     @Test
-    @DisplayName("existsByRegistrationNumber returns true when exists")
-    void existsByRegistrationNumber_ReturnsTrue_WhenExists() {
-        User user = userRepository.save(createValidUser("seller@test.com"));
-        sellerRepository.save(createValidSeller(user));
-
-        assertThat(sellerRepository.existsByRegistrationNumber(123L)).isTrue();
-    }
-
-    @Test
-    @DisplayName("existsByRegistrationNumber returns false when not exists")
-    void existsByRegistrationNumber_ReturnsFalse_WhenNotExists() {
-        assertThat(sellerRepository.existsByRegistrationNumber(999L)).isFalse();
-    }
-
-    @Test
-    @DisplayName("findAllActive returns only sellers whose users are ACTIVE")
-    void findAllActive_ReturnsOnlyActiveSellers() {
+    @DisplayName("findFirstPage returns only sellers whose users are ACTIVE")
+    void findFirstPage_ReturnsOnlyActiveSellers() {
         User activeUser = createValidUser("active@test.com");
         activeUser.setStatus(UserStatus.ACTIVE);
 
@@ -136,7 +122,7 @@ class SellerRepositoryTest {
                 Seller.builder().registrationNumber(2L).user(excludedUser).build()
         );
 
-        List<Seller> result = sellerRepository.findAllActive(UserStatus.ACTIVE);
+        List<Seller> result = sellerRepository.findFirstPage(UserStatus.ACTIVE, Limit.of(10));
 
         assertThat(result)
                 .hasSize(1)
@@ -42,6 +42,22 @@ class UserRepositoryTest {
         assertThat(saved.getEmail()).isEqualTo(u.getEmail());
     }
 
+    @Test
+    @DisplayName("Should generate time-ordered version 7 ids")
+    void save_GeneratesTimeOrderedIds() {
+        User first = userRepository.save(createValidUser());
+        User second = createValidUser();
+        second.setEmail("second@test.com");
+        second = userRepository.save(second);
+
+        assertThat(first.getId().version()).isEqualTo(7);
+        assertThat(second.getId().version()).isEqualTo(7);
+        assertThat(Long.compareUnsigned(
+                first.getId().getMostSignificantBits() >>> 16,
+                second.getId().getMostSignificantBits() >>> 16
+        )).isLessThanOrEqualTo(0);
+    }
+
     @Test
     @DisplayName("Should not save user with null name")
     void save_ThrowsException_WhenNameIsNull() {
@@ -125,23 +141,6 @@ class UserRepositoryTest {
         assertThat(result).isEmpty();
     }
 
-    @Test
-    @DisplayName("existsByEmail returns true when exists")
-    void existsByEmail_ReturnsTrue_WhenExists() {
-        User u = createValidUser();
-        userRepository.save(u);
-
-        boolean exists = userRepository.existsByEmail(u.getEmail());
-        assertThat(exists).isTrue();
-    }
-
-    @Test
-    @DisplayName("existsByEmail returns false when not exists")
-    void existsByEmail_ReturnsFalse_WhenNotExists() {
-        boolean exists = userRepository.existsByEmail("nope@test.com");
-        assertThat(exists).isFalse();
-    }
-
     @Test
     @DisplayName("Should update user successfully")
     void updateUser_WhenSuccessful() {
@@ -0,0 +1,96 @@
+package com.drivefleet.drivefleet.security;
+
+import com.drivefleet.drivefleet.exceptions.PasswordHashingSaturatedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void shutdown() {
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should encode and match passwords on the hashing pool")
+    void encode_MatchesEncodedPassword() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), new PasswordHashingProperties(4, 2, 8));
+
+        String hash = hasher.encode("12345678");
+
+        assertThat(hasher.matches("12345678", hash)).isTrue();
+        assertThat(hasher.matches("wrong-password", hash)).isFalse();
+        assertThat(hasher.completedCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should time encodes and matches once bound to a registry")
+    void bindTo_RecordsHashingTime() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), new PasswordHashingProperties(4, 1, 8));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        hasher.bindTo(registry);
+
+        hasher.matches("12345678", hasher.encode("12345678"));
+
+        assertThat(registry.get("drivefleet.password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(registry.get("drivefleet.password.hashing").tag("operation", "matches").timer().count()).isEqualTo(1);
+        assertThat(registry.get("drivefleet.password.hashing.pool.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should flag hashes produced with a lower cost factor for upgrade")
+    void upgradeEncoding_ReturnsTrue_WhenStoredHashIsWeaker() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("12345678");
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(5), new PasswordHashingProperties(5, 1, 8));
+
+        assertThat(hasher.upgradeEncoding(weakHash)).isTrue();
+        assertThat(hasher.upgradeEncoding(hasher.encode("12345678"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject work when the pool and its queue are full")
+    void encodeAsync_Throws_WhenSaturated() {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        hasher = new PasswordHasher(blocking, new PasswordHashingProperties(4, 1, 1));
+
+        CompletableFuture<String> running = hasher.encodeAsync("first");
+        CompletableFuture<String> queued = hasher.encodeAsync("second");
+
+        assertThatThrownBy(() -> hasher.encodeAsync("third"))
+                .isInstanceOf(PasswordHashingSaturatedException.class);
+        assertThat(hasher.rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("first");
+        assertThat(queued.join()).isEqualTo("second");
+    }
+}
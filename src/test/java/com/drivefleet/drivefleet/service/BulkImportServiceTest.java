@@ -0,0 +1,185 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.BulkImportProperties;
+import com.drivefleet.drivefleet.config.RegistrationNumberProperties;
+import com.drivefleet.drivefleet.domain.dto.imports.ImportReport;
+import com.drivefleet.drivefleet.domain.entities.Customer;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.enums.ImportFormat;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.repository.CustomerRepository;
+import com.drivefleet.drivefleet.repository.NumberSequenceRepository;
+import com.drivefleet.drivefleet.repository.SellerRepository;
+import com.drivefleet.drivefleet.repository.UserRepository;
+import com.drivefleet.drivefleet.security.PasswordHasher;
+import com.drivefleet.drivefleet.security.PasswordHashingProperties;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class BulkImportServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private NumberSequenceRepository numberSequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PasswordHasher passwordHasher;
+    private BulkImportService bulkImportService;
+
+    @BeforeEach
+    void setup() {
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), new PasswordHashingProperties(4, 2, 16));
+        RegistrationNumberAllocator allocator = new RegistrationNumberAllocator(
+                numberSequenceRepository,
+                sellerRepository,
+                new RegistrationNumberProperties("bulk-import-test", 10, 20_000_000L, 99_999_999L),
+                transactionManager
+        );
+        bulkImportService = new BulkImportService(
+                userRepository,
+                sellerRepository,
+                customerRepository,
+                passwordHasher,
+                allocator,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                JsonMapper.builder().build(),
+                new BulkImportProperties(2, 100),
+                transactionManager
+        );
+    }
+
+    @AfterEach
+    void shutdown() {
+        passwordHasher.shutdown();
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should import valid NDJSON sellers and report invalid rows without aborting")
+    void importSellers_ReportsRowErrors_WhenNdjsonHasInvalidRows() {
+        userRepository.save(User.builder()
+                .name("Existing")
+                .email("existing@test.com")
+                .password("12345678")
+                .role(UserRole.SELLER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        String ndjson = """
+                {"user":{"name":"Ana","email":"ana@test.com","password":"12345678","role":"SELLER"}}
+                {"user":{"name":"Bruno","email":"not-an-email","password":"12345678","role":"SELLER"}}
+                {"user":{"name":"Carla","email":"existing@test.com","password":"12345678","role":"SELLER"}}
+                {"user":{"name":"Davi","email":"davi@test.com","password":"12345678","role":"SELLER"}}
+                {"user":{"name":"Ana again","email":"ANA@test.com","password":"12345678","role":"SELLER"}}
+                {broken json
+                """;
+
+        ImportReport report = bulkImportService.importSellers(body(ndjson), ImportFormat.NDJSON);
+
+        assertThat(report.received()).isEqualTo(6);
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(4);
+        assertThat(report.errors()).extracting("line").containsExactlyInAnyOrder(2L, 3L, 5L, 6L);
+        assertThat(sellerRepository.findAll()).hasSize(2);
+        assertThat(userRepository.findByEmail("ana@test.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should import CSV customers and reject repeated CPFs")
+    void importCustomers_RejectsRepeatedCpf_WhenCsv() {
+        String csv = """
+                name,email,password,cpf,phone,address
+                Ana,ana@test.com,12345678,11111111111,11999990001,"Rua A, 10"
+                Bruno,bruno@test.com,12345678,11111111111,11999990002,Rua B
+                Carla,carla@test.com,12345678,22222222222,11999990003,Rua C
+                """;
+
+        ImportReport report = bulkImportService.importCustomers(body(csv), ImportFormat.CSV);
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.errors()).singleElement()
+                .satisfies(error -> assertThat(error.line()).isEqualTo(3L));
+        assertThat(customerRepository.findByCpf(11111111111L))
+                .get()
+                .satisfies(customer -> assertThat(customer.getAddress()).isEqualTo("Rua A, 10"));
+    }
+
+    @Test
+    @DisplayName("Should import a row whose email was only used by an earlier rejected row")
+    void importCustomers_ReusesKeysOfRejectedRows() {
+        String csv = """
+                name,email,password,cpf,phone,address
+                Ana,ana@test.com,12345678,11111111111,11999990001,Rua A
+                Bruno,bruno@test.com,12345678,11111111111,11999990002,Rua B
+                Ana again,ana@test.com,12345678,22222222222,11999990003,Rua C
+                Bruno again,bruno@test.com,12345678,33333333333,11999990002,Rua D
+                """;
+        customerRepository.save(Customer.builder()
+                .cpf(11111111111L)
+                .phone(11988880000L)
+                .address("Rua Z")
+                .user(userRepository.save(User.builder()
+                        .name("Existing")
+                        .email("existing@test.com")
+                        .password("12345678")
+                        .role(UserRole.CUSTOMER)
+                        .status(UserStatus.ACTIVE)
+                        .build()))
+                .build());
+
+        ImportReport report = bulkImportService.importCustomers(body(csv), ImportFormat.CSV);
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.errors()).extracting("line").containsExactlyInAnyOrder(2L, 3L);
+        assertThat(customerRepository.findByCpf(22222222222L)).isPresent();
+        assertThat(customerRepository.findByCpf(33333333333L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should report a key repeated within one chunk only after its first row is imported")
+    void importSellers_DefersRowsRepeatingAKeyInTheSameChunk() {
+        String ndjson = """
+                {"user":{"name":"Ana","email":"ana@test.com","password":"12345678","role":"SELLER"}}
+                {"user":{"name":"Ana again","email":"ana@test.com","password":"12345678","role":"SELLER"}}
+                """;
+
+        ImportReport report = bulkImportService.importSellers(body(ndjson), ImportFormat.NDJSON);
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.errors()).singleElement().satisfies(error -> {
+            assertThat(error.line()).isEqualTo(2L);
+            assertThat(error.message()).contains("repeated in the import");
+        });
+    }
+}
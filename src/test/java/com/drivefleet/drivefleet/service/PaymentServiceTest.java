@@ -0,0 +1,289 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.IdempotencyProperties;
+import com.drivefleet.drivefleet.config.VehicleReservationProperties;
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentReceipt;
+import com.drivefleet.drivefleet.domain.dto.payment.PaymentRequest;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderRequest;
+import com.drivefleet.drivefleet.domain.entities.Customer;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
+import com.drivefleet.drivefleet.domain.enums.PaymentStatus;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+import com.drivefleet.drivefleet.exceptions.IdempotencyKeyReuseException;
+import com.drivefleet.drivefleet.exceptions.OrderNotAwaitingPaymentException;
+import com.drivefleet.drivefleet.repository.CustomerRepository;
+import com.drivefleet.drivefleet.repository.IdempotencyRecordRepository;
+import com.drivefleet.drivefleet.repository.PaymentRepository;
+import com.drivefleet.drivefleet.repository.SalerOrderRepository;
+import com.drivefleet.drivefleet.repository.SellerRepository;
+import com.drivefleet.drivefleet.repository.UserRepository;
+import com.drivefleet.drivefleet.repository.VehicleRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentServiceTest {
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private SalerOrderRepository salerOrderRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private VehicleReservationService reservationService;
+    private PaymentService paymentService;
+    private UUID orderId;
+    private UUID vehicleId;
+
+    @BeforeEach
+    void setup() {
+        reservationService = new VehicleReservationService(
+                vehicleRepository,
+                new VehicleReservationProperties(Duration.ofMinutes(15), 3, Duration.ofMillis(20)),
+                eventPublisher,
+                transactionManager
+        );
+        paymentService = paymentService(new IdempotencyProperties(100, Duration.ofHours(24)));
+        SalesOrderService salesOrderService = new SalesOrderService(
+                salerOrderRepository, vehicleRepository, reservationService, entityManager, eventPublisher
+        );
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Customer customer = customerRepository.save(Customer.builder()
+                    .cpf(12345678901L)
+                    .phone(11999990000L)
+                    .address("Rua A, 100")
+                    .user(user("customer@email.com", UserRole.CUSTOMER))
+                    .build());
+            Seller seller = sellerRepository.save(Seller.builder()
+                    .registrationNumber(10000001L)
+                    .user(user("seller@email.com", UserRole.SELLER))
+                    .build());
+            Vehicle vehicle = vehicleRepository.save(Vehicle.builder()
+                    .brand("Toyota")
+                    .model("Corolla")
+                    .yearManufacture(2022)
+                    .yearModel(2023)
+                    .plate("ABC1D23")
+                    .color("White")
+                    .mileage(new BigDecimal("15000.00"))
+                    .price(new BigDecimal("120000.00"))
+                    .status(VehicleStatus.AVAILABLE)
+                    .build());
+            vehicleId = vehicle.getId();
+            orderId = salesOrderService.create(
+                    new SalesOrderRequest(customer.getId(), seller.getId(), vehicle.getId())).id();
+        });
+    }
+
+    // Bulk deletes in foreign key order: deleteAll would load the vehicle, whose salesOrder still points at
+    // the order just removed, and stop there with the rest of the rows left for the next test class
+    @AfterEach
+    void cleanup() {
+        idempotencyRecordRepository.deleteAllInBatch();
+        paymentRepository.deleteAllInBatch();
+        salerOrderRepository.deleteAllInBatch();
+        customerRepository.deleteAllInBatch();
+        sellerRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        vehicleRepository.deleteAllInBatch();
+    }
+
+    private PaymentService paymentService(IdempotencyProperties properties) {
+        return new PaymentService(
+                paymentRepository,
+                salerOrderRepository,
+                reservationService,
+                new IdempotencyStore(idempotencyRecordRepository, properties),
+                entityManager,
+                eventPublisher,
+                transactionManager
+        );
+    }
+
+    private User user(String email, UserRole role) {
+        return userRepository.save(User.builder()
+                .name("Test User")
+                .email(email)
+                .password("encoded")
+                .role(role)
+                .status(UserStatus.ACTIVE)
+                .build());
+    }
+
+    private PaymentRequest approved(String price) {
+        return new PaymentRequest(LocalDate.now(), new BigDecimal(price), PaymentMethod.PIX,
+                PaymentStatus.APPROVED, orderId);
+    }
+
+    @Test
+    @DisplayName("Should finalize the order and sell the vehicle together with the payment")
+    void ingest_FinalizesOrderAndSellsVehicle() {
+        PaymentReceipt receipt = paymentService.ingest("key-1", approved("120000.00"));
+
+        assertThat(receipt.replayed()).isFalse();
+        assertThat(paymentRepository.findById(receipt.payment().id())).isPresent();
+        assertThat(salerOrderRepository.findPaymentTarget(orderId).orElseThrow().getStatus())
+                .isEqualTo(OrderStatus.FINALIZED);
+        assertThat(vehicleRepository.findReservationStateById(vehicleId).orElseThrow().getStatus())
+                .isEqualTo(VehicleStatus.SOLD);
+    }
+
+    @Test
+    @DisplayName("Should answer a replayed key from memory without touching the database")
+    void ingest_ReplaysFromMemory() {
+        PaymentReceipt first = paymentService.ingest("key-1", approved("120000.00"));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        PaymentReceipt replay = paymentService.ingest("key-1", approved("120000.0"));
+
+        assertThat(replay.replayed()).isTrue();
+        assertThat(replay.payment()).isEqualTo(first.payment());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(paymentRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer a replayed key from the table once the memory cache has lost it")
+    void ingest_ReplaysFromDatabase() {
+        PaymentReceipt first = paymentService.ingest("key-1", approved("120000.00"));
+
+        PaymentReceipt replay = paymentService(new IdempotencyProperties(100, Duration.ofHours(24)))
+                .ingest("key-1", approved("120000.00"));
+
+        assertThat(replay.replayed()).isTrue();
+        assertThat(replay.payment().id()).isEqualTo(first.payment().id());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different payment and a second payment for the order")
+    void ingest_RejectsConflictingPayments() {
+        paymentService.ingest("key-1", approved("120000.00"));
+
+        assertThatThrownBy(() -> paymentService.ingest("key-1", approved("99.00")))
+                .isInstanceOf(IdempotencyKeyReuseException.class);
+        assertThatThrownBy(() -> paymentService.ingest("key-2", approved("120000.00")))
+                .isInstanceOf(OrderNotAwaitingPaymentException.class);
+    }
+
+    @Test
+    @DisplayName("Should let an approved payment take over a previously declined attempt")
+    void ingest_ReplacesDeclinedAttempt() {
+        PaymentReceipt declined = paymentService.ingest("key-1", new PaymentRequest(LocalDate.now(),
+                new BigDecimal("120000.00"), PaymentMethod.CARD, PaymentStatus.DECLINED, orderId));
+
+        PaymentReceipt approved = paymentService.ingest("key-2", approved("120000.00"));
+
+        assertThat(approved.payment().id()).isEqualTo(declined.payment().id());
+        assertThat(paymentRepository.count()).isEqualTo(1);
+        assertThat(salerOrderRepository.findPaymentTarget(orderId).orElseThrow().getStatus())
+                .isEqualTo(OrderStatus.FINALIZED);
+    }
+
+    @Test
+    @DisplayName("Should let a pending attempt be taken over by an approved one")
+    void ingest_ReplacesPendingAttempt() {
+        PaymentReceipt pending = paymentService.ingest("key-1", new PaymentRequest(LocalDate.now(),
+                new BigDecimal("120000.00"), PaymentMethod.BILL, PaymentStatus.PENDING, orderId));
+
+        PaymentReceipt approved = paymentService.ingest("key-2", approved("120000.00"));
+
+        assertThat(approved.payment().id()).isEqualTo(pending.payment().id());
+        assertThat(paymentRepository.findById(pending.payment().id()).orElseThrow().getStatus())
+                .isEqualTo(PaymentStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("Should register a payment once and replay it to every concurrent retry with the same key")
+    void ingest_ReplaysConcurrentRetries() throws Exception {
+        int retries = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PaymentReceipt>> attempts = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(retries)) {
+            for (int i = 0; i < retries; i++) {
+                // Separate services keep every retry away from another one's memory cache
+                PaymentService retry = paymentService(new IdempotencyProperties(100, Duration.ofHours(24)));
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    return retry.ingest("key-1", approved("120000.00"));
+                }));
+            }
+            start.countDown();
+        }
+
+        List<PaymentReceipt> receipts = new ArrayList<>();
+        for (Future<PaymentReceipt> attempt : attempts) {
+            receipts.add(attempt.get());
+        }
+        assertThat(receipts).filteredOn(receipt -> !receipt.replayed()).hasSize(1);
+        assertThat(receipts).extracting(receipt -> receipt.payment().id())
+                .containsOnly(receipts.getFirst().payment().id());
+        assertThat(paymentRepository.count()).isEqualTo(1);
+        assertThat(idempotencyRecordRepository.findById("key-1").orElseThrow().getPaymentId())
+                .isEqualTo(receipts.getFirst().payment().id());
+    }
+}
@@ -0,0 +1,195 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.RegistrationNumberProperties;
+import com.drivefleet.drivefleet.config.SellerListingProperties;
+import com.drivefleet.drivefleet.config.VehicleReservationProperties;
+import com.drivefleet.drivefleet.domain.dto.page.CursorPage;
+import com.drivefleet.drivefleet.domain.dto.seller.SellerResponse;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.repository.NumberSequenceRepository;
+import com.drivefleet.drivefleet.repository.SalerOrderRepository;
+import com.drivefleet.drivefleet.repository.SellerRepository;
+import com.drivefleet.drivefleet.repository.UserRepository;
+import com.drivefleet.drivefleet.repository.VehicleRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+// The service is built by hand, so the transaction templates stand in for its @Transactional(readOnly = true)
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadOnlyListingTest {
+
+    private static final int SELLERS = 100;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SalerOrderRepository salerOrderRepository;
+
+    @Autowired
+    private NumberSequenceRepository numberSequenceRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SellerService sellerService;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        VehicleReservationService reservationService = new VehicleReservationService(
+                vehicleRepository,
+                new VehicleReservationProperties(Duration.ofMinutes(15), 3, Duration.ofMillis(20)),
+                eventPublisher,
+                transactionManager
+        );
+        SalesOrderService salesOrderService = new SalesOrderService(
+                salerOrderRepository, vehicleRepository, reservationService, entityManager, eventPublisher
+        );
+        RegistrationNumberAllocator allocator = new RegistrationNumberAllocator(
+                numberSequenceRepository,
+                sellerRepository,
+                new RegistrationNumberProperties("read-only-listing-test", 10, 10_000_000L, 99_999_999L),
+                transactionManager
+        );
+        sellerService = new SellerService(
+                sellerRepository,
+                new UserService(userRepository, new BCryptPasswordEncoder(), new UniqueKeyGuard()),
+                salesOrderService,
+                new SellerListingProperties(SELLERS, SELLERS, 5),
+                allocator
+        );
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < SELLERS; i++) {
+            users.add(User.builder()
+                    .name("Seller " + i)
+                    .email("listing" + i + "@test.com")
+                    .password("12345678")
+                    .role(UserRole.SELLER)
+                    .status(UserStatus.ACTIVE)
+                    .build());
+        }
+        List<Seller> sellers = new ArrayList<>();
+        for (User user : userRepository.saveAll(users)) {
+            sellers.add(Seller.builder().registrationNumber(30_000_000L + sellers.size()).user(user).build());
+        }
+        sellerRepository.saveAll(sellers);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        sellerRepository.deleteAll();
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private record Footprint(int entities, long snapshotSlots, long flushes) {}
+
+    // Every loaded-state slot is a deep copy of a column value kept only to be compared at flush time
+    private Footprint listAllSellersIn(TransactionTemplate transaction) {
+        statistics.clear();
+        Footprint loaded = transaction.execute(status -> {
+            CursorPage<SellerResponse> page = sellerService.listAllSellers(null, SELLERS, true);
+            assertThat(page.items()).hasSize(SELLERS);
+            Map.Entry<Object, EntityEntry>[] entries = entityManager.unwrap(SessionImplementor.class)
+                    .getPersistenceContextInternal().reentrantSafeEntityEntries();
+            long slots = 0;
+            for (Map.Entry<Object, EntityEntry> entry : entries) {
+                Object[] loadedState = entry.getValue().getLoadedState();
+                slots += loadedState == null ? 0 : loadedState.length;
+            }
+            return new Footprint(entries.length, slots, 0);
+        });
+        return new Footprint(loaded.entities(), loaded.snapshotSlots(), statistics.getFlushCount());
+    }
+
+    @Test
+    @DisplayName("Should list sellers without snapshots or a flush in a read-only transaction")
+    void listAllSellers_ReadOnly() {
+        Footprint footprint = listAllSellersIn(readOnlyTransaction);
+
+        assertThat(footprint.entities()).isGreaterThanOrEqualTo(2 * SELLERS);
+        assertThat(footprint.snapshotSlots()).isZero();
+        assertThat(footprint.flushes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the same listing snapshot-free in a read-write transaction but flush it on commit")
+    void listAllSellers_ReadWrite() {
+        Footprint readOnly = listAllSellersIn(readOnlyTransaction);
+        Footprint readWrite = listAllSellersIn(writeTransaction);
+
+        // The listing queries carry the read-only hint, so only the commit-time flush tells the two modes apart
+        assertThat(readWrite.entities()).isEqualTo(readOnly.entities());
+        assertThat(readWrite.snapshotSlots()).isZero();
+        assertThat(readWrite.flushes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should not write back changes made to entities loaded in a read-only transaction")
+    void readOnlyTransaction_IgnoresModifications() {
+        UUID userId = userRepository.findByEmail("listing0@test.com").orElseThrow().getId();
+
+        readOnlyTransaction.executeWithoutResult(status ->
+                userRepository.findById(userId).orElseThrow().setName("Changed"));
+
+        assertThat(userRepository.findById(userId).orElseThrow().getName()).isEqualTo("Seller 0");
+    }
+}
@@ -0,0 +1,134 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.RegistrationNumberProperties;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.exceptions.RegistrationNumbersExhaustedException;
+import com.drivefleet.drivefleet.repository.NumberSequenceRepository;
+import com.drivefleet.drivefleet.repository.SellerRepository;
+import com.drivefleet.drivefleet.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RegistrationNumberAllocatorTest {
+
+    @Autowired
+    private NumberSequenceRepository numberSequenceRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanup() {
+        sellerRepository.deleteAll();
+        userRepository.deleteAll();
+        numberSequenceRepository.deleteAll();
+    }
+
+    private RegistrationNumberAllocator allocator(String sequence, int blockSize, long first, long max) {
+        return new RegistrationNumberAllocator(
+                numberSequenceRepository,
+                sellerRepository,
+                new RegistrationNumberProperties(sequence, blockSize, first, max),
+                transactionManager
+        );
+    }
+
+    @Test
+    @DisplayName("Should hand out consecutive numbers and reserve the next block when one runs out")
+    void next_ReturnsConsecutiveNumbersAcrossBlocks() {
+        RegistrationNumberAllocator allocator = allocator("consecutive", 3, 100L, 999L);
+
+        List<Long> numbers = IntStream.range(0, 7).mapToObj(i -> allocator.next()).toList();
+
+        assertThat(numbers).containsExactly(100L, 101L, 102L, 103L, 104L, 105L, 106L);
+        assertThat(numberSequenceRepository.findById("consecutive").orElseThrow().getNextValue())
+                .isEqualTo(109L);
+    }
+
+    @Test
+    @DisplayName("Should skip numbers already held by existing sellers")
+    void next_SkipsNumbersAlreadyTaken() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = userRepository.save(User.builder()
+                    .name("Legacy")
+                    .email("legacy@test.com")
+                    .password("123456")
+                    .role(UserRole.SELLER)
+                    .status(UserStatus.ACTIVE)
+                    .build());
+            sellerRepository.save(Seller.builder().registrationNumber(501L).user(user).build());
+        });
+
+        RegistrationNumberAllocator allocator = allocator("legacy", 5, 500L, 999L);
+
+        assertThat(allocator.next()).isEqualTo(500L);
+        assertThat(allocator.next()).isEqualTo(502L);
+    }
+
+    @Test
+    @DisplayName("Should never hand out the same number twice, even across allocator instances")
+    void next_IsUniqueUnderConcurrency() throws Exception {
+        RegistrationNumberAllocator nodeA = allocator("concurrent", 10, 1_000L, 1_000_000L);
+        RegistrationNumberAllocator nodeB = allocator("concurrent", 10, 1_000L, 1_000_000L);
+        Set<Long> numbers = ConcurrentHashMap.newKeySet();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Void>> futures = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.<Void>submit(() -> {
+                        RegistrationNumberAllocator allocator = i % 2 == 0 ? nodeA : nodeB;
+                        for (int n = 0; n < 50; n++) {
+                            assertThat(numbers.add(allocator.next())).isTrue();
+                        }
+                        return null;
+                    }))
+                    .toList();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(numbers).hasSize(400);
+    }
+
+    @Test
+    @DisplayName("Should fail when the sequence has no numbers left")
+    void next_ThrowsWhenExhausted() {
+        RegistrationNumberAllocator allocator = allocator("exhausted", 2, 10L, 11L);
+
+        allocator.next();
+        allocator.next();
+
+        assertThatThrownBy(allocator::next)
+                .isInstanceOf(RegistrationNumbersExhaustedException.class);
+    }
+}
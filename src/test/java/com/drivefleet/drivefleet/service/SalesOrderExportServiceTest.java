@@ -0,0 +1,198 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.SalesOrderExportProperties;
+import com.drivefleet.drivefleet.config.VehicleReservationProperties;
+import com.drivefleet.drivefleet.domain.entities.Customer;
+import com.drivefleet.drivefleet.domain.entities.Payment;
+import com.drivefleet.drivefleet.domain.entities.SalesOrder;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.domain.enums.ExportFormat;
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.domain.enums.PaymentMethod;
+import com.drivefleet.drivefleet.domain.enums.PaymentStatus;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+import com.drivefleet.drivefleet.exceptions.InvalidDateRangeException;
+import com.drivefleet.drivefleet.repository.SalerOrderRepository;
+import com.drivefleet.drivefleet.repository.VehicleRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SalesOrderExportServiceTest {
+
+    @Autowired
+    private SalerOrderRepository salerOrderRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private SalesOrderExportService exportService;
+    private LocalDate today;
+
+    @BeforeEach
+    void setup() {
+        VehicleReservationService reservationService = new VehicleReservationService(
+                vehicleRepository,
+                new VehicleReservationProperties(Duration.ofMinutes(15), 3, Duration.ofMillis(20)),
+                eventPublisher,
+                transactionManager
+        );
+        SalesOrderService salesOrderService = new SalesOrderService(
+                salerOrderRepository, vehicleRepository, reservationService, entityManager, eventPublisher
+        );
+        // A fetch size below the row count makes the export clear the persistence context mid-stream
+        exportService = new SalesOrderExportService(entityManager, salesOrderService, jsonMapper,
+                new SalesOrderExportProperties(2), transactionManager);
+
+        Customer customer = Customer.builder()
+                .cpf(12345678901L)
+                .phone(11999990000L)
+                .address("Rua A, 100")
+                .user(user("customer@email.com", "Ana, the \"buyer\"", UserRole.CUSTOMER))
+                .build();
+        entityManager.persist(customer);
+        Seller seller = Seller.builder()
+                .registrationNumber(10000001L)
+                .user(user("seller@email.com", "Test Seller", UserRole.SELLER))
+                .build();
+        entityManager.persist(seller);
+
+        SalesOrder finalized = order(customer, seller, vehicle("ABC1D23"), OrderStatus.FINALIZED);
+        entityManager.persist(Payment.builder()
+                .paymentDate(LocalDate.now())
+                .price(finalized.getTotalValue())
+                .method(PaymentMethod.PIX)
+                .status(PaymentStatus.APPROVED)
+                .salesOrder(finalized)
+                .build());
+        order(customer, seller, vehicle("DEF4G56"), OrderStatus.AWAITING_PAYMENT);
+        order(customer, seller, null, OrderStatus.CANCELED);
+        entityManager.flush();
+        entityManager.clear();
+        today = LocalDate.now();
+    }
+
+    private User user(String email, String name, UserRole role) {
+        User user = User.builder()
+                .name(name)
+                .email(email)
+                .password("encoded")
+                .role(role)
+                .status(UserStatus.ACTIVE)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Vehicle vehicle(String plate) {
+        Vehicle vehicle = Vehicle.builder()
+                .brand("Toyota")
+                .model("Corolla")
+                .yearManufacture(2022)
+                .yearModel(2023)
+                .plate(plate)
+                .color("White")
+                .mileage(new BigDecimal("15000.00"))
+                .price(new BigDecimal("120000.00"))
+                .status(VehicleStatus.SOLD)
+                .build();
+        entityManager.persist(vehicle);
+        return vehicle;
+    }
+
+    private SalesOrder order(Customer customer, Seller seller, Vehicle vehicle, OrderStatus status) {
+        SalesOrder order = SalesOrder.builder()
+                .customer(customer)
+                .seller(seller)
+                .vehicle(vehicle)
+                .totalValue(new BigDecimal("120000.00"))
+                .status(status)
+                .build();
+        entityManager.persist(order);
+        return order;
+    }
+
+    @Test
+    @DisplayName("Should write a header and one quoted CSV row per order in the range")
+    void export_Csv() throws IOException {
+        List<String> lines = export(today, today, ExportFormat.CSV, false).lines().toList();
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.getFirst()).startsWith("id,creationDate,conclusionDate,totalValue,status,sellerId");
+        assertThat(lines.subList(1, 4)).allSatisfy(line -> assertThat(line).contains(",\"Ana, the \"\"buyer\"\"\","));
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains(",FINALIZED,").contains(",PIX,APPROVED,"));
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains(",CANCELED,").endsWith(",,,,,,,,,,,"));
+    }
+
+    @Test
+    @DisplayName("Should gzip NDJSON in the SalesOrderResponse shape")
+    void export_GzippedNdjson() throws IOException {
+        List<String> lines = export(today, today, ExportFormat.NDJSON, true).lines().toList();
+
+        assertThat(lines).hasSize(3);
+        JsonNode first = jsonMapper.readTree(lines.getFirst());
+        assertThat(first.get("seller").get("registrationNumber").asLong()).isEqualTo(10000001L);
+        assertThat(first.get("customer").get("name").asString()).isEqualTo("Ana, the \"buyer\"");
+    }
+
+    @Test
+    @DisplayName("Should leave out orders created outside the range")
+    void export_FiltersByCreationDate() throws IOException {
+        assertThat(export(today.minusDays(7), today.minusDays(1), ExportFormat.NDJSON, false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a range that ends before it starts")
+    void export_RejectsInvertedRange() {
+        assertThatThrownBy(() -> exportService.export(today, today.minusDays(1), ExportFormat.CSV, false))
+                .isInstanceOf(InvalidDateRangeException.class);
+    }
+
+    private String export(LocalDate from, LocalDate to, ExportFormat format, boolean gzip) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.export(from, to, format, gzip).writeTo(output);
+        if (!gzip) {
+            return output.toString(StandardCharsets.UTF_8);
+        }
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
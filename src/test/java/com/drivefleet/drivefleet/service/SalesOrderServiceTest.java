@@ -0,0 +1,173 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.VehicleReservationProperties;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderRequest;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderResponse;
+import com.drivefleet.drivefleet.domain.entities.Customer;
+import com.drivefleet.drivefleet.domain.entities.SalesOrder;
+import com.drivefleet.drivefleet.domain.entities.Seller;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+import com.drivefleet.drivefleet.exceptions.CustomerNotFoundException;
+import com.drivefleet.drivefleet.exceptions.SellerNotFoundException;
+import com.drivefleet.drivefleet.exceptions.VehicleNotAvailableException;
+import com.drivefleet.drivefleet.repository.SalerOrderRepository;
+import com.drivefleet.drivefleet.repository.VehicleRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SalesOrderServiceTest {
+
+    // Reserve UPDATE + vehicle summary SELECT + order INSERT
+    private static final long STATEMENTS_PER_ORDER = 3;
+
+    @Autowired
+    private SalerOrderRepository salerOrderRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SalesOrderService salesOrderService;
+    private Statistics statistics;
+    private Customer customer;
+    private Seller seller;
+    private Vehicle vehicle;
+
+    @BeforeEach
+    void setup() {
+        VehicleReservationService reservationService = new VehicleReservationService(
+                vehicleRepository,
+                new VehicleReservationProperties(Duration.ofMinutes(15), 3, Duration.ofMillis(20)),
+                eventPublisher,
+                transactionManager
+        );
+        salesOrderService = new SalesOrderService(
+                salerOrderRepository, vehicleRepository, reservationService, entityManager, eventPublisher
+        );
+
+        customer = Customer.builder()
+                .cpf(12345678901L)
+                .phone(11999990000L)
+                .address("Rua A, 100")
+                .user(user("customer@email.com", UserRole.CUSTOMER))
+                .build();
+        entityManager.persist(customer);
+        seller = Seller.builder()
+                .registrationNumber(10000001L)
+                .user(user("seller@email.com", UserRole.SELLER))
+                .build();
+        entityManager.persist(seller);
+        vehicle = Vehicle.builder()
+                .brand("Toyota")
+                .model("Corolla")
+                .yearManufacture(2022)
+                .yearModel(2023)
+                .plate("ABC1D23")
+                .color("White")
+                .mileage(new BigDecimal("15000.00"))
+                .price(new BigDecimal("120000.00"))
+                .status(VehicleStatus.AVAILABLE)
+                .build();
+        entityManager.persist(vehicle);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    private User user(String email, UserRole role) {
+        User user = User.builder()
+                .name("Test User")
+                .email(email)
+                .password("encoded")
+                .role(role)
+                .status(UserStatus.ACTIVE)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should create the order and reserve the vehicle in a fixed number of statements")
+    void create_UsesFixedStatementCount() {
+        SalesOrderResponse response = salesOrderService.create(
+                new SalesOrderRequest(customer.getId(), seller.getId(), vehicle.getId()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_ORDER);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(response.status()).isEqualTo(OrderStatus.AWAITING_PAYMENT);
+        assertThat(response.totalValue()).isEqualByComparingTo("120000.00");
+        assertThat(response.vehicle().id()).isEqualTo(vehicle.getId());
+
+        entityManager.clear();
+        SalesOrder saved = salerOrderRepository.findById(response.id()).orElseThrow();
+        assertThat(saved.getCustomer().getId()).isEqualTo(customer.getId());
+        assertThat(saved.getSeller().getId()).isEqualTo(seller.getId());
+        assertThat(saved.getPaymentDeadline()).isNotNull();
+        Vehicle reserved = vehicleRepository.findById(vehicle.getId()).orElseThrow();
+        assertThat(reserved.getStatus()).isEqualTo(VehicleStatus.RESERVED);
+        assertThat(reserved.getReservedUntil()).isEqualTo(saved.getPaymentDeadline());
+    }
+
+    @Test
+    @DisplayName("Should reject a second order for an already reserved vehicle")
+    void create_Throws_WhenVehicleAlreadyReserved() {
+        salesOrderService.create(new SalesOrderRequest(customer.getId(), seller.getId(), vehicle.getId()));
+
+        assertThatThrownBy(() -> salesOrderService.create(
+                new SalesOrderRequest(customer.getId(), seller.getId(), vehicle.getId())))
+                .isInstanceOf(VehicleNotAvailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should report a missing customer from its foreign key violation")
+    void create_Throws_WhenCustomerDoesNotExist() {
+        assertThatThrownBy(() -> salesOrderService.create(
+                new SalesOrderRequest(UUID.randomUUID(), seller.getId(), vehicle.getId())))
+                .isInstanceOf(CustomerNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should report a missing seller from its foreign key violation")
+    void create_Throws_WhenSellerDoesNotExist() {
+        assertThatThrownBy(() -> salesOrderService.create(
+                new SalesOrderRequest(customer.getId(), UUID.randomUUID(), vehicle.getId())))
+                .isInstanceOf(SellerNotFoundException.class);
+    }
+}
@@ -1,29 +1,49 @@
 package com.drivefleet.drivefleet.service;
 
+import com.drivefleet.drivefleet.config.RegistrationNumberProperties;
+import com.drivefleet.drivefleet.config.SellerListingProperties;
+import com.drivefleet.drivefleet.config.VehicleReservationProperties;
+import com.drivefleet.drivefleet.domain.dto.page.CursorPage;
+import com.drivefleet.drivefleet.domain.dto.salesorder.SalesOrderResponse;
 import com.drivefleet.drivefleet.domain.dto.seller.SellerRequest;
 import com.drivefleet.drivefleet.domain.dto.user.UserRequest;
+import com.drivefleet.drivefleet.domain.dto.user.ExclusionReport;
 import com.drivefleet.drivefleet.domain.dto.seller.SellerResponse;
+import com.drivefleet.drivefleet.domain.dto.seller.SellerSummaryResponse;
+import com.drivefleet.drivefleet.domain.entities.Customer;
 import com.drivefleet.drivefleet.domain.entities.SalesOrder;
 import com.drivefleet.drivefleet.domain.entities.Seller;
 import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.enums.ExclusionOutcome;
+import com.drivefleet.drivefleet.domain.enums.OrderStatus;
 import com.drivefleet.drivefleet.domain.enums.UserRole;
 import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.exceptions.EmailAlreadyInUseException;
+import com.drivefleet.drivefleet.exceptions.InvalidCursorException;
+import com.drivefleet.drivefleet.exceptions.RegistrationNumberImmutableException;
 import com.drivefleet.drivefleet.exceptions.SellerCannotBeExcludedException;
 import com.drivefleet.drivefleet.exceptions.UserNotFoundIdException;
+import com.drivefleet.drivefleet.repository.NumberSequenceRepository;
 import com.drivefleet.drivefleet.repository.SalerOrderRepository;
 import com.drivefleet.drivefleet.repository.SellerRepository;
 import com.drivefleet.drivefleet.repository.UserRepository;
+import com.drivefleet.drivefleet.repository.VehicleRepository;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -43,20 +63,93 @@ class SellerServiceTest {
     private SellerService sellerService;
     private UserService userService;
     private SalesOrderService salesOrderService;
-    @Mock
-    SalerOrderRepository salerOrderRepository;
+
+    @Autowired
+    private SalerOrderRepository salerOrderRepository;
+
+    @Autowired
+    private NumberSequenceRepository numberSequenceRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
 
     @BeforeEach
     void setup() {
-        userService = new UserService(userRepository, new BCryptPasswordEncoder());
-        salesOrderService = new SalesOrderService(salerOrderRepository);
-        sellerService = new SellerService(sellerRepository, userService, salesOrderService);
+        userService = new UserService(userRepository, new BCryptPasswordEncoder(), new UniqueKeyGuard());
+        VehicleReservationService reservationService = new VehicleReservationService(
+                vehicleRepository,
+                new VehicleReservationProperties(Duration.ofMinutes(15), 3, Duration.ofMillis(20)),
+                eventPublisher,
+                transactionManager
+        );
+        salesOrderService = new SalesOrderService(
+                salerOrderRepository, vehicleRepository, reservationService, entityManager, eventPublisher
+        );
+        RegistrationNumberAllocator allocator = new RegistrationNumberAllocator(
+                numberSequenceRepository,
+                sellerRepository,
+                new RegistrationNumberProperties("seller-service-test", 10, 10_000_000L, 99_999_999L),
+                transactionManager
+        );
+        sellerService = new SellerService(
+                sellerRepository, userService, salesOrderService, new SellerListingProperties(2, 10, 5), allocator
+        );
     }
 
     private UserRequest validUserRequest() {
         return new UserRequest("Seller", "seller@test.com", "123456", UserRole.SELLER);
     }
 
+    private Seller persistSeller(String email, long registrationNumber, UserStatus status) {
+        User user = userRepository.save(User.builder()
+                .name("Seller")
+                .email(email)
+                .password("123456")
+                .role(UserRole.SELLER)
+                .status(status)
+                .build()
+        );
+        return sellerRepository.save(Seller.builder().registrationNumber(registrationNumber).user(user).build());
+    }
+
+    private Customer persistCustomer() {
+        Customer customer = Customer.builder()
+                .cpf(12345678901L)
+                .phone(11999990000L)
+                .address("Rua A, 100")
+                .user(userRepository.save(User.builder()
+                        .name("Customer")
+                        .email("customer@test.com")
+                        .password("123456")
+                        .role(UserRole.CUSTOMER)
+                        .status(UserStatus.ACTIVE)
+                        .build()))
+                .build();
+        entityManager.persist(customer);
+        return customer;
+    }
+
+    private SalesOrder persistOrder(Seller seller, Customer customer, OrderStatus status, String totalValue) {
+        SalesOrder order = SalesOrder.builder()
+                .customer(customer)
+                .seller(seller)
+                .totalValue(new BigDecimal(totalValue))
+                .status(status)
+                .build();
+        entityManager.persist(order);
+        entityManager.flush();
+        return order;
+    }
+
     private Seller createSellerEntity() {
         User user = userRepository.save(User.builder()
                 .name("Seller")
@@ -85,6 +178,17 @@ class SellerServiceTest {
         assertThat(response.user()).isNotNull();
     }
 
+    @Test
+    @DisplayName("Should reject a seller whose email is already taken")
+    void createSeller_ShouldThrow_WhenEmailAlreadyExists() {
+        sellerRepository.save(createSellerEntity());
+
+        SellerRequest request = new SellerRequest(validUserRequest());
+
+        assertThatThrownBy(() -> sellerService.create(request))
+                .isInstanceOf(EmailAlreadyInUseException.class);
+    }
+
     @Test
     @DisplayName("Should list only active sellers")
     void listAllActiveSellers_WhenSuccessful() {
@@ -105,10 +209,126 @@ class SellerServiceTest {
                 .build()
         );
 
-        List<SellerResponse> result = sellerService.listAllSellers();
+        CursorPage<SellerResponse> result = sellerService.listAllSellers(null, null, true);
+
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.items().getFirst().user().status()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should include only the most recent sales of each seller, newest first")
+    void listAllSellers_CapsRecentSalesPerSeller() {
+        Seller busy = persistSeller("busy@test.com", 20000001L, UserStatus.ACTIVE);
+        Seller quiet = persistSeller("quiet@test.com", 20000002L, UserStatus.ACTIVE);
+        Customer customer = persistCustomer();
+        List<UUID> busyOrders = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            busyOrders.add(persistOrder(busy, customer, OrderStatus.FINALIZED, "1000.00").getId());
+        }
+        UUID quietOrder = persistOrder(quiet, customer, OrderStatus.FINALIZED, "1000.00").getId();
+
+        CursorPage<SellerResponse> result = sellerService.listAllSellers(null, null, true);
+
+        assertThat(result.items()).hasSize(2);
+        SellerResponse busyResponse = result.items().stream()
+                .filter(seller -> seller.id().equals(busy.getId())).findFirst().orElseThrow();
+        SellerResponse quietResponse = result.items().stream()
+                .filter(seller -> seller.id().equals(quiet.getId())).findFirst().orElseThrow();
+        assertThat(busyResponse.sales()).extracting(SalesOrderResponse::id)
+                .containsExactlyElementsOf(busyOrders.reversed().subList(0, 5));
+        assertThat(quietResponse.sales()).extracting(SalesOrderResponse::id).containsExactly(quietOrder);
+    }
+
+    @Test
+    @DisplayName("Should page through active sellers using the continuation cursor")
+    void listAllSellers_PagesWithCursor() {
+        for (int i = 0; i < 5; i++) {
+            User user = userRepository.save(User.builder()
+                    .name("Seller " + i)
+                    .email("seller" + i + "@test.com")
+                    .password("123456")
+                    .role(UserRole.SELLER)
+                    .status(UserStatus.ACTIVE)
+                    .build()
+            );
+            sellerRepository.save(Seller.builder()
+                    .registrationNumber(10_000_000L + i)
+                    .user(user)
+                    .build()
+            );
+        }
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<SellerResponse> page = sellerService.listAllSellers(cursor, null, false);
+            page.items().forEach(seller -> seen.add(seller.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should list seller summaries with aggregated sales figures")
+    void listSellerSummaries_WhenSuccessful() {
+        Seller seller = sellerRepository.save(createSellerEntity());
+
+        CursorPage<SellerSummaryResponse> result = sellerService.listSellerSummaries(null, null);
+
+        assertThat(result.items()).hasSize(1);
+        SellerSummaryResponse summary = result.items().getFirst();
+        assertThat(summary.id()).isEqualTo(seller.getId());
+        assertThat(summary.email()).isEqualTo("seller@test.com");
+        assertThat(summary.salesCount()).isZero();
+        assertThat(summary.totalValue()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(summary.lastSaleDate()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should aggregate count, total and last sale date over every order, canceled ones included")
+    void listSellerSummaries_AggregatesSalesByStatus() {
+        Seller seller = persistSeller("busy@test.com", 20000001L, UserStatus.ACTIVE);
+        Seller idle = persistSeller("idle@test.com", 20000002L, UserStatus.ACTIVE);
+        Customer customer = persistCustomer();
+        LocalDate today = LocalDate.now();
+        backdate(persistOrder(seller, customer, OrderStatus.FINALIZED, "100.00"), today.minusDays(10));
+        backdate(persistOrder(seller, customer, OrderStatus.AWAITING_PAYMENT, "250.50"), today.minusDays(3));
+        persistOrder(seller, customer, OrderStatus.CANCELED, "999.99");
+        entityManager.clear();
+
+        CursorPage<SellerSummaryResponse> result = sellerService.listSellerSummaries(null, 10);
+
+        assertThat(result.items()).hasSize(2);
+        SellerSummaryResponse busy = result.items().stream()
+                .filter(summary -> summary.id().equals(seller.getId())).findFirst().orElseThrow();
+        assertThat(busy.salesCount()).isEqualTo(3L);
+        assertThat(busy.totalValue()).isEqualByComparingTo("1350.49");
+        assertThat(busy.lastSaleDate()).isEqualTo(today);
+        SellerSummaryResponse quiet = result.items().stream()
+                .filter(summary -> summary.id().equals(idle.getId())).findFirst().orElseThrow();
+        assertThat(quiet.salesCount()).isZero();
+        assertThat(quiet.lastSaleDate()).isNull();
+    }
+
+    // creationDate is stamped on persist, so older orders are moved back in time afterwards
+    private void backdate(SalesOrder order, LocalDate creationDate) {
+        entityManager.createQuery("UPDATE SalesOrder o SET o.creationDate = :date WHERE o.id = :id")
+                .setParameter("date", creationDate)
+                .setParameter("id", order.getId())
+                .executeUpdate();
+    }
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().user().status()).isEqualTo(UserStatus.ACTIVE);
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void listAllSellers_ShouldThrow_WhenCursorIsInvalid() {
+        assertThatThrownBy(() -> sellerService.listAllSellers("not-a-cursor", null, false))
+                .isInstanceOf(InvalidCursorException.class);
     }
 
     @Test
@@ -126,19 +346,30 @@ class SellerServiceTest {
         assertThat(updated.user().name()).isEqualTo("Updated Seller");
     }
 
+    @Test
+    @DisplayName("Should return the seller's sales after an update")
+    void updateSeller_ReturnsSales() {
+        Seller seller = sellerRepository.save(createSellerEntity());
+        SalesOrder order = persistOrder(seller, persistCustomer(), OrderStatus.FINALIZED, "120000.00");
+
+        SellerResponse updated = sellerService.update(seller.getId(), new SellerRequest(validUserRequest()));
+
+        assertThat(updated.sales()).extracting(SalesOrderResponse::id).containsExactly(order.getId());
+    }
+
     @Test
     @DisplayName("Should NOT allow changing registrationNumber manually")
     void updateSeller_ShouldNotAllowChangingRegistrationNumber() {
         Seller seller = sellerRepository.save(createSellerEntity());
 
-        seller.setRegistrationNumber(99999999L);
-        sellerRepository.save(seller);
+        assertThatThrownBy(() -> seller.setRegistrationNumber(99999999L))
+                .isInstanceOf(RegistrationNumberImmutableException.class);
 
         SellerRequest req = new SellerRequest(validUserRequest());
 
         SellerResponse updated = sellerService.update(seller.getId(), req);
 
-        assertThat(updated.registrationNumber()).isEqualTo(99999999L);
+        assertThat(updated.registrationNumber()).isEqualTo(12345678L);
     }
 
     @Test
@@ -167,9 +398,7 @@ class SellerServiceTest {
     @DisplayName("Should NOT delete seller with sales")
     void deleteSeller_ShouldThrow_WhenHasSales() {
         Seller seller = sellerRepository.save(createSellerEntity());
-
-        seller.getSales().add(new SalesOrder());
-        sellerRepository.save(seller);
+        persistOrder(seller, persistCustomer(), OrderStatus.CANCELED, "120000.00");
 
         assertThatThrownBy(() ->
                 sellerService.deleteById(seller.getId())
@@ -182,4 +411,44 @@ class SellerServiceTest {
         assertThatThrownBy(() -> sellerService.deleteById(UUID.randomUUID()))
                 .isInstanceOf(UserNotFoundIdException.class);
     }
+
+    @Test
+    @DisplayName("Should exclude sellers in bulk and report an outcome per id")
+    void excludeAll_ReportsOutcomePerId() {
+        Seller withoutSales = persistSeller("free@test.com", 20000001L, UserStatus.ACTIVE);
+        Seller withSales = persistSeller("busy@test.com", 20000002L, UserStatus.ACTIVE);
+        Seller excluded = persistSeller("gone@test.com", 20000003L, UserStatus.EXCLUDED);
+        persistOrder(withSales, persistCustomer(), OrderStatus.CANCELED, "120000.00");
+        UUID unknown = UUID.randomUUID();
+
+        ExclusionReport report = sellerService.excludeAll(List.of(
+                withoutSales.getId(), withSales.getId(), excluded.getId(), unknown, withoutSales.getId()));
+
+        assertThat(report.requested()).isEqualTo(4);
+        assertThat(report.excluded()).isEqualTo(1);
+        assertThat(report.outcomes()).containsExactly(
+                entry(withoutSales.getId(), ExclusionOutcome.EXCLUDED),
+                entry(withSales.getId(), ExclusionOutcome.HAS_SALES),
+                entry(excluded.getId(), ExclusionOutcome.ALREADY_EXCLUDED),
+                entry(unknown, ExclusionOutcome.NOT_FOUND));
+        assertThat(userRepository.findById(withoutSales.getUser().getId()).orElseThrow().getStatus())
+                .isEqualTo(UserStatus.EXCLUDED);
+        assertThat(userRepository.findById(withSales.getUser().getId()).orElseThrow().getStatus())
+                .isEqualTo(UserStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Should not lose pending changes or serve stale users after a bulk exclusion")
+    void excludeAll_KeepsPersistenceContextConsistent() {
+        Seller seller = persistSeller("free@test.com", 20000001L, UserStatus.ACTIVE);
+        User user = userRepository.findById(seller.getUser().getId()).orElseThrow();
+        user.setName("Renamed");
+
+        sellerService.excludeAll(List.of(seller.getId()));
+
+        assertThat(entityManager.contains(user)).isFalse();
+        User reloaded = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(reloaded.getName()).isEqualTo("Renamed");
+        assertThat(reloaded.getStatus()).isEqualTo(UserStatus.EXCLUDED);
+    }
 }
@@ -0,0 +1,79 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.domain.entities.Customer;
+import com.drivefleet.drivefleet.domain.entities.User;
+import com.drivefleet.drivefleet.domain.enums.UserRole;
+import com.drivefleet.drivefleet.domain.enums.UserStatus;
+import com.drivefleet.drivefleet.exceptions.CpfAlreadyInUseException;
+import com.drivefleet.drivefleet.exceptions.EmailAlreadyInUseException;
+import com.drivefleet.drivefleet.repository.CustomerRepository;
+import com.drivefleet.drivefleet.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class UniqueKeyGuardTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private UniqueKeyGuard uniqueKeyGuard;
+
+    @BeforeEach
+    void setup() {
+        uniqueKeyGuard = new UniqueKeyGuard();
+
+        User user = userRepository.save(createUser("customer@test.com"));
+        customerRepository.saveAndFlush(Customer.builder()
+                .cpf(11111111111L)
+                .phone(11999990000L)
+                .address("Rua A")
+                .user(user)
+                .build());
+    }
+
+    private User createUser(String email) {
+        return User.builder()
+                .name("Customer")
+                .email(email)
+                .password("12345678")
+                .role(UserRole.CUSTOMER)
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("write maps a unique email violation to EmailAlreadyInUseException")
+    void write_TranslatesEmailViolation() {
+        assertThatThrownBy(() -> uniqueKeyGuard.write(
+                UniqueKeyGuard.Keys.builder().email("customer@test.com").build(),
+                () -> userRepository.saveAndFlush(createUser("customer@test.com"))))
+                .isInstanceOf(EmailAlreadyInUseException.class);
+    }
+
+    @Test
+    @DisplayName("write maps a unique CPF violation to CpfAlreadyInUseException")
+    void write_TranslatesCpfViolation() {
+        User other = userRepository.save(createUser("other@test.com"));
+
+        assertThatThrownBy(() -> uniqueKeyGuard.write(
+                UniqueKeyGuard.Keys.builder().cpf(11111111111L).phone(11977770000L).build(),
+                () -> customerRepository.saveAndFlush(Customer.builder()
+                        .cpf(11111111111L)
+                        .phone(11977770000L)
+                        .address("Rua B")
+                        .user(other)
+                        .build())))
+                .isInstanceOf(CpfAlreadyInUseException.class);
+    }
+}
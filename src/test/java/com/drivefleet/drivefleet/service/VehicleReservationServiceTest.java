@@ -0,0 +1,187 @@
+package com.drivefleet.drivefleet.service;
+
+import com.drivefleet.drivefleet.config.VehicleReservationProperties;
+import com.drivefleet.drivefleet.domain.dto.vehicle.VehicleReservationResponse;
+import com.drivefleet.drivefleet.domain.entities.Vehicle;
+import com.drivefleet.drivefleet.domain.enums.VehicleStatus;
+import com.drivefleet.drivefleet.exceptions.ReservationExpiredException;
+import com.drivefleet.drivefleet.exceptions.VehicleNotAvailableException;
+import com.drivefleet.drivefleet.exceptions.VehicleNotFoundException;
+import com.drivefleet.drivefleet.repository.VehicleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VehicleReservationServiceTest {
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger plates = new AtomicInteger(1000);
+
+    @AfterEach
+    void cleanup() {
+        vehicleRepository.deleteAll();
+    }
+
+    private VehicleReservationService service(Duration ttl) {
+        return new VehicleReservationService(
+                vehicleRepository,
+                new VehicleReservationProperties(ttl, 5, Duration.ofMillis(5)),
+                eventPublisher,
+                transactionManager
+        );
+    }
+
+    private Vehicle availableVehicle() {
+        return vehicleRepository.save(Vehicle.builder()
+                .brand("Toyota")
+                .model("Corolla")
+                .yearManufacture(2022)
+                .yearModel(2023)
+                .plate("ABC" + plates.incrementAndGet())
+                .color("White")
+                .mileage(new BigDecimal("15000.00"))
+                .price(new BigDecimal("120000.00"))
+                .status(VehicleStatus.AVAILABLE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent buyers reserve the same vehicle")
+    void reserve_AllowsSingleWinner_UnderContention() throws Exception {
+        VehicleReservationService service = service(Duration.ofMinutes(15));
+        UUID vehicleId = availableVehicle().getId();
+        int buyers = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<VehicleReservationResponse>> attempts = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(buyers)) {
+            for (int i = 0; i < buyers; i++) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return service.reserve(vehicleId);
+                    } catch (VehicleNotAvailableException ex) {
+                        rejected.incrementAndGet();
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        List<VehicleReservationResponse> winners = new ArrayList<>();
+        for (Future<VehicleReservationResponse> attempt : attempts) {
+            if (attempt.get() != null) {
+                winners.add(attempt.get());
+            }
+        }
+
+        assertThat(winners).hasSize(1);
+        assertThat(rejected.get()).isEqualTo(buyers - 1);
+
+        Vehicle reserved = vehicleRepository.findById(vehicleId).orElseThrow();
+        assertThat(reserved.getStatus()).isEqualTo(VehicleStatus.RESERVED);
+        assertThat(reserved.getReservationToken()).isEqualTo(winners.getFirst().reservationToken());
+        assertThat(reserved.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should move a reserved vehicle to SOLD with the reservation token")
+    void confirmSale_MarksVehicleSold() {
+        VehicleReservationService service = service(Duration.ofMinutes(15));
+        UUID vehicleId = availableVehicle().getId();
+        VehicleReservationResponse reservation = service.reserve(vehicleId);
+
+        assertThatThrownBy(() -> service.confirmSale(vehicleId, UUID.randomUUID()))
+                .isInstanceOf(VehicleNotAvailableException.class);
+
+        service.confirmSale(vehicleId, reservation.reservationToken());
+
+        Vehicle sold = vehicleRepository.findById(vehicleId).orElseThrow();
+        assertThat(sold.getStatus()).isEqualTo(VehicleStatus.SOLD);
+        assertThat(sold.getReservationToken()).isNull();
+        assertThatThrownBy(() -> service.reserve(vehicleId)).isInstanceOf(VehicleNotAvailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should treat an expired reservation as free and reject its late confirmation")
+    void reserve_TakesOverExpiredReservation() throws InterruptedException {
+        VehicleReservationService shortLived = service(Duration.ofMillis(1));
+        UUID vehicleId = availableVehicle().getId();
+        VehicleReservationResponse expired = shortLived.reserve(vehicleId);
+        Thread.sleep(5);
+
+        assertThatThrownBy(() -> shortLived.confirmSale(vehicleId, expired.reservationToken()))
+                .isInstanceOf(ReservationExpiredException.class);
+
+        VehicleReservationResponse takeover = service(Duration.ofMinutes(15)).reserve(vehicleId);
+
+        assertThat(takeover.reservationToken()).isNotEqualTo(expired.reservationToken());
+        assertThat(vehicleRepository.findById(vehicleId).orElseThrow().getReservationToken())
+                .isEqualTo(takeover.reservationToken());
+    }
+
+    @Test
+    @DisplayName("Should make the vehicle available again when its reservation is released")
+    void release_ReturnsVehicleToAvailable() {
+        VehicleReservationService service = service(Duration.ofMinutes(15));
+        UUID vehicleId = availableVehicle().getId();
+        VehicleReservationResponse reservation = service.reserve(vehicleId);
+
+        service.release(vehicleId, reservation.reservationToken());
+
+        assertThat(vehicleRepository.findById(vehicleId).orElseThrow().getStatus()).isEqualTo(VehicleStatus.AVAILABLE);
+        assertThatThrownBy(() -> service.reserve(UUID.randomUUID())).isInstanceOf(VehicleNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject releasing a reservation with a wrong or stale token")
+    void release_RejectsWrongOrStaleToken() {
+        VehicleReservationService service = service(Duration.ofMinutes(15));
+        UUID vehicleId = availableVehicle().getId();
+        VehicleReservationResponse reservation = service.reserve(vehicleId);
+
+        assertThatThrownBy(() -> service.release(vehicleId, UUID.randomUUID()))
+                .isInstanceOf(VehicleNotAvailableException.class);
+        assertThat(vehicleRepository.findById(vehicleId).orElseThrow().getStatus()).isEqualTo(VehicleStatus.RESERVED);
+
+        service.release(vehicleId, reservation.reservationToken());
+
+        assertThatThrownBy(() -> service.release(vehicleId, reservation.reservationToken()))
+                .isInstanceOf(VehicleNotAvailableException.class);
+        assertThatThrownBy(() -> service.release(UUID.randomUUID(), reservation.reservationToken()))
+                .isInstanceOf(VehicleNotFoundException.class);
+    }
+}